@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import net.minecraft.item.ItemStack;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import forestry.api.apiculture.BeeManager;
+import forestry.api.apiculture.EnumBeeType;
+import forestry.api.apiculture.IBeekeepingLogic;
+
+/**
+ * One server tick of a working housing, the same calls TileAbstractBeeHousing.updateServerSide makes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BeekeepingLogicBenchmark {
+	private BenchmarkBeeHousing housing;
+	private IBeekeepingLogic beekeepingLogic;
+	private ItemStack queenStack;
+
+	@Setup
+	public void setup() {
+		BenchmarkSetup.init();
+
+		housing = new BenchmarkBeeHousing(new HeadlessWorld());
+		beekeepingLogic = housing.getBeekeepingLogic();
+		queenStack = BeeManager.beeRoot.getMemberStack(BenchmarkSetup.createQueen(), EnumBeeType.QUEEN.ordinal());
+	}
+
+	@Benchmark
+	public boolean canWork() {
+		resetHousing();
+		return beekeepingLogic.canWork();
+	}
+
+	@Benchmark
+	public boolean tick() {
+		resetHousing();
+		boolean canWork = beekeepingLogic.canWork();
+		if (canWork) {
+			beekeepingLogic.doWork();
+		}
+		return canWork;
+	}
+
+	/** Puts a fresh queen back once the old one died, and makes room for her products. */
+	private void resetHousing() {
+		if (housing.getBeeInventory().getQueen() == null) {
+			housing.getBeeInventory().setQueen(queenStack.copy());
+			housing.clearProducts();
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.benchmark;
+
+import java.util.Collections;
+
+import net.minecraft.init.Blocks;
+import net.minecraft.util.ChunkCoordinates;
+import net.minecraft.world.World;
+import net.minecraft.world.biome.BiomeGenBase;
+
+import com.mojang.authlib.GameProfile;
+
+import forestry.api.apiculture.IBeeHousing;
+import forestry.api.apiculture.IBeeHousingInventory;
+import forestry.api.apiculture.IBeeListener;
+import forestry.api.apiculture.IBeeModifier;
+import forestry.api.apiculture.IBeekeepingLogic;
+import forestry.api.core.EnumHumidity;
+import forestry.api.core.EnumTemperature;
+import forestry.api.core.IErrorLogic;
+import forestry.apiculture.BeeHousingInventory;
+import forestry.apiculture.BeekeepingLogic;
+import forestry.apiculture.CachedBeeHousingModifier;
+import forestry.core.access.FakeAccessHandler;
+import forestry.core.errors.ErrorLogic;
+
+/**
+ * Stand-in for an apiary without frames, sitting on the grass of a {@link HeadlessWorld} with a few flowers around it.
+ */
+public class BenchmarkBeeHousing implements IBeeHousing {
+	private final World world;
+	private final ChunkCoordinates coordinates;
+	private final BeeHousingInventory inventory;
+	private final IErrorLogic errorLogic = new ErrorLogic();
+	private final IBeekeepingLogic beekeepingLogic;
+
+	public BenchmarkBeeHousing(World world) {
+		this.world = world;
+		this.coordinates = new ChunkCoordinates(8, 4, 8);
+		this.inventory = new BeeHousingInventory(9, "Items", FakeAccessHandler.getInstance());
+		this.beekeepingLogic = new BeekeepingLogic(this, new CachedBeeHousingModifier(this));
+
+		world.setBlock(coordinates.posX + 3, coordinates.posY, coordinates.posZ + 2, Blocks.red_flower);
+		world.setBlock(coordinates.posX - 4, coordinates.posY, coordinates.posZ + 1, Blocks.yellow_flower);
+	}
+
+	/** Empties the product slots so that a long benchmark run never stops on a full housing. */
+	public void clearProducts() {
+		for (int i = BeeHousingInventory.SLOT_PRODUCT_1; i < BeeHousingInventory.SLOT_PRODUCT_1 + BeeHousingInventory.SLOT_PRODUCT_COUNT; i++) {
+			inventory.setInventorySlotContents(i, null);
+		}
+	}
+
+	@Override
+	public Iterable<IBeeModifier> getBeeModifiers() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public Iterable<IBeeListener> getBeeListeners() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public IBeeHousingInventory getBeeInventory() {
+		return inventory;
+	}
+
+	@Override
+	public IBeekeepingLogic getBeekeepingLogic() {
+		return beekeepingLogic;
+	}
+
+	@Override
+	public EnumTemperature getTemperature() {
+		return EnumTemperature.NORMAL;
+	}
+
+	@Override
+	public EnumHumidity getHumidity() {
+		return EnumHumidity.NORMAL;
+	}
+
+	@Override
+	public int getBlockLightValue() {
+		return 15;
+	}
+
+	@Override
+	public boolean canBlockSeeTheSky() {
+		return true;
+	}
+
+	@Override
+	public World getWorld() {
+		return world;
+	}
+
+	@Override
+	public BiomeGenBase getBiome() {
+		return BiomeGenBase.plains;
+	}
+
+	@Override
+	public GameProfile getOwner() {
+		return null;
+	}
+
+	@Override
+	public IErrorLogic getErrorLogic() {
+		return errorLogic;
+	}
+
+	@Override
+	public ChunkCoordinates getCoordinates() {
+		return coordinates;
+	}
+}
@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.benchmark;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.ChunkCoordinates;
+import net.minecraft.world.World;
+
+import forestry.core.access.EnumAccess;
+import forestry.core.multiblock.CoordTriplet;
+import forestry.core.multiblock.IMultiblockPart;
+import forestry.core.multiblock.MultiblockControllerBase;
+import forestry.core.multiblock.MultiblockValidationError;
+
+/**
+ * A controller without game logic, so that only the multiblock bookkeeping is measured.
+ * It never assembles, breaking a part therefore costs the connectivity check and no machine teardown.
+ */
+public class BenchmarkMultiblockController extends MultiblockControllerBase {
+
+	public BenchmarkMultiblockController(World world) {
+		super(world);
+	}
+
+	@Override
+	public void onAttachedPartWithMultiblockData(IMultiblockPart part, NBTTagCompound data) {
+	}
+
+	@Override
+	protected void onBlockAdded(IMultiblockPart newPart) {
+	}
+
+	@Override
+	protected void onBlockRemoved(IMultiblockPart oldPart) {
+	}
+
+	@Override
+	protected int getMinimumNumberOfBlocksForAssembledMachine() {
+		return 1;
+	}
+
+	@Override
+	protected int getMaximumXSize() {
+		return DIMENSION_UNBOUNDED;
+	}
+
+	@Override
+	protected int getMaximumZSize() {
+		return DIMENSION_UNBOUNDED;
+	}
+
+	@Override
+	protected int getMaximumYSize() {
+		return DIMENSION_UNBOUNDED;
+	}
+
+	@Override
+	protected MultiblockValidationError isMachineWhole() {
+		return new MultiblockValidationError("for.multiblock.error.benchmark");
+	}
+
+	@Override
+	protected void onAssimilate(MultiblockControllerBase assimilated) {
+	}
+
+	@Override
+	protected void onAssimilated(MultiblockControllerBase assimilator) {
+	}
+
+	@Override
+	protected boolean updateServer(int tickCount) {
+		return false;
+	}
+
+	@Override
+	protected void updateClient(int tickCount) {
+	}
+
+	@Override
+	public void formatDescriptionPacket(NBTTagCompound data) {
+	}
+
+	@Override
+	public void decodeDescriptionPacket(NBTTagCompound data) {
+	}
+
+	@Override
+	public ChunkCoordinates getCoordinates() {
+		CoordTriplet coord = getReferenceCoord();
+		return new ChunkCoordinates(coord.x, coord.y, coord.z);
+	}
+
+	@Override
+	public void onSwitchAccess(EnumAccess oldAccess, EnumAccess newAccess) {
+	}
+}
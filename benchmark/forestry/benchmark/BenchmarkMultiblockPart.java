@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.benchmark;
+
+import forestry.core.multiblock.MultiblockControllerBase;
+import forestry.core.multiblock.MultiblockTileEntityBase;
+
+public class BenchmarkMultiblockPart extends MultiblockTileEntityBase {
+
+	@Override
+	public void onMachineAssembled(MultiblockControllerBase multiblockControllerBase) {
+	}
+
+	@Override
+	public void onMachineBroken() {
+	}
+
+	@Override
+	public void onMachineActivated() {
+	}
+
+	@Override
+	public void onMachineDeactivated() {
+	}
+
+	@Override
+	public MultiblockControllerBase createNewMultiblock() {
+		return new BenchmarkMultiblockController(worldObj);
+	}
+
+	@Override
+	public Class<? extends MultiblockControllerBase> getMultiblockControllerType() {
+		return BenchmarkMultiblockController.class;
+	}
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.benchmark;
+
+import java.lang.reflect.Field;
+
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+import forestry.api.apiculture.BeeManager;
+import forestry.api.apiculture.EnumBeeChromosome;
+import forestry.api.apiculture.EnumBeeType;
+import forestry.api.apiculture.FlowerManager;
+import forestry.api.apiculture.IAlleleBeeSpeciesCustom;
+import forestry.api.apiculture.IBee;
+import forestry.api.apiculture.IBeeGenome;
+import forestry.api.core.ForestryAPI;
+import forestry.api.genetics.AlleleManager;
+import forestry.api.genetics.IAllele;
+import forestry.apiculture.flowers.FlowerRegistry;
+import forestry.apiculture.genetics.Bee;
+import forestry.apiculture.genetics.BeeBranchDefinition;
+import forestry.apiculture.genetics.BeeFactory;
+import forestry.apiculture.genetics.BeeHelper;
+import forestry.apiculture.genetics.BeeMutationFactory;
+import forestry.apiculture.genetics.BeekeepingMode;
+import forestry.apiculture.genetics.JubilanceFactory;
+import forestry.apiculture.genetics.alleles.AlleleEffectNone;
+import forestry.apiculture.items.ItemBeeGE;
+import forestry.core.config.ForestryItem;
+import forestry.core.errors.ErrorStateRegistry;
+import forestry.core.genetics.alleles.Allele;
+import forestry.core.genetics.alleles.AlleleFactory;
+import forestry.core.genetics.alleles.AlleleHelper;
+import forestry.core.genetics.alleles.AlleleRegistry;
+import forestry.core.utils.ClimateUtil;
+import forestry.plugins.PluginManager;
+
+/**
+ * Sets up just enough of vanilla and the Forestry genetics API to run the benchmarks without a Minecraft client or server.
+ * Mirrors the setupAPI steps of PluginCore and PluginApiculture, with two small species and one mutation between them.
+ */
+public final class BenchmarkSetup {
+	private static boolean initialized;
+
+	public static IAlleleBeeSpeciesCustom speciesForest;
+	public static IAlleleBeeSpeciesCustom speciesMeadows;
+	public static IAlleleBeeSpeciesCustom speciesCommon;
+
+	private BenchmarkSetup() {
+	}
+
+	public static synchronized void init() {
+		if (initialized) {
+			return;
+		}
+		initialized = true;
+
+		Bootstrap.func_151354_b();
+
+		// loading the module enum creates ForestryAPI.enabledPlugins
+		String apiculture = PluginManager.Module.APICULTURE.toString();
+		ForestryAPI.enabledPlugins.add(apiculture);
+
+		ForestryAPI.errorStateRegistry = new ErrorStateRegistry();
+
+		AlleleRegistry alleleRegistry = new AlleleRegistry();
+		AlleleManager.alleleRegistry = alleleRegistry;
+		AlleleManager.climateHelper = new ClimateUtil();
+		AlleleManager.alleleFactory = new AlleleFactory();
+		alleleRegistry.initialize();
+
+		Allele.helper = new AlleleHelper();
+		Allele.helper.init();
+		Allele.effectNone = new AlleleEffectNone("none", true);
+
+		FlowerManager.flowerRegistry = new FlowerRegistry();
+		FlowerManager.flowerRegistry.registerAcceptableFlower(Blocks.red_flower, FlowerManager.FlowerTypeVanilla);
+		FlowerManager.flowerRegistry.registerAcceptableFlower(Blocks.yellow_flower, FlowerManager.FlowerTypeVanilla);
+
+		BeeManager.beeFactory = new BeeFactory();
+		BeeManager.beeMutationFactory = new BeeMutationFactory();
+		BeeManager.jubilanceFactory = new JubilanceFactory();
+		BeeManager.beeRoot = new BeeHelper();
+		AlleleManager.alleleRegistry.registerSpeciesRoot(BeeManager.beeRoot);
+		BeeManager.beeRoot.registerBeekeepingMode(BeekeepingMode.normal);
+
+		// ForestryItem.registerItem needs FML, so the bee items are set directly
+		setItem(ForestryItem.beeQueenGE, new ItemBeeGE(EnumBeeType.QUEEN));
+		setItem(ForestryItem.beePrincessGE, new ItemBeeGE(EnumBeeType.PRINCESS));
+		setItem(ForestryItem.beeDroneGE, new ItemBeeGE(EnumBeeType.DRONE));
+
+		speciesForest = createSpecies("forest", true);
+		speciesMeadows = createSpecies("meadows", true);
+		speciesCommon = createSpecies("common", false);
+
+		BeeManager.beeMutationFactory.createMutation(speciesForest, speciesMeadows, getTemplate(speciesCommon), 15);
+	}
+
+	private static IAlleleBeeSpeciesCustom createSpecies(String name, boolean dominant) {
+		IAlleleBeeSpeciesCustom species = BeeManager.beeFactory.createSpecies("forestry.benchmark." + name, dominant, "Sengir", name, name, BeeBranchDefinition.HONEY.getBranch(), name, 0xffdc16, 0xffdc16);
+		species.addProduct(new ItemStack(Items.wheat), 0.30f);
+		BeeManager.beeRoot.registerTemplate(getTemplate(species));
+		return species;
+	}
+
+	public static IAllele[] getTemplate(IAlleleBeeSpeciesCustom species) {
+		IAllele[] template = BeeBranchDefinition.HONEY.getTemplate();
+		Allele.helper.set(template, EnumBeeChromosome.SPECIES, species);
+		return template;
+	}
+
+	public static IBeeGenome getGenome(IAlleleBeeSpeciesCustom species) {
+		return BeeManager.beeRoot.templateAsGenome(getTemplate(species));
+	}
+
+	public static IBee createQueen() {
+		IBee queen = new Bee(getGenome(speciesForest));
+		queen.mate(new Bee(getGenome(speciesMeadows)));
+		return queen;
+	}
+
+	private static void setItem(ForestryItem forestryItem, Item item) {
+		try {
+			Field itemField = ForestryItem.class.getDeclaredField("item");
+			itemField.setAccessible(true);
+			itemField.set(forestryItem, item);
+		} catch (ReflectiveOperationException e) {
+			throw new RuntimeException("Could not set " + forestryItem + " for the benchmarks.", e);
+		}
+	}
+}
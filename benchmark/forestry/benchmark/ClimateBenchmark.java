@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.benchmark;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import forestry.api.core.EnumHumidity;
+import forestry.api.core.EnumTemperature;
+import forestry.api.genetics.EnumTolerance;
+import forestry.core.utils.ClimateUtil;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ClimateBenchmark {
+	private final ClimateUtil climateUtil = new ClimateUtil();
+
+	/** Every combination of climate, preference and tolerance. */
+	@Benchmark
+	public int isWithinLimits() {
+		int count = 0;
+		for (EnumTemperature temperature : EnumTemperature.values()) {
+			for (EnumHumidity humidity : EnumHumidity.values()) {
+				for (EnumTolerance tolerance : EnumTolerance.values()) {
+					if (climateUtil.isWithinLimits(temperature, humidity, EnumTemperature.NORMAL, tolerance, EnumHumidity.NORMAL, tolerance)) {
+						count++;
+					}
+				}
+			}
+		}
+		return count;
+	}
+
+	@Benchmark
+	public Collection<EnumTemperature> getToleratedTemperature() {
+		return climateUtil.getToleratedTemperature(EnumTemperature.WARM, EnumTolerance.BOTH_2);
+	}
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.minecraft.nbt.NBTTagCompound;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import forestry.api.apiculture.IBee;
+import forestry.api.apiculture.IBeeGenome;
+import forestry.api.genetics.IChromosome;
+import forestry.apiculture.genetics.BeeGenome;
+import forestry.core.genetics.Chromosome;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GeneticsBenchmark {
+	private final Random random = new Random(0);
+
+	private IBeeGenome genome;
+	private IChromosome[] chromosomes1;
+	private IChromosome[] chromosomes2;
+
+	private BenchmarkBeeHousing housing;
+	private IBee queen;
+
+	@Setup
+	public void setup() {
+		BenchmarkSetup.init();
+
+		genome = BenchmarkSetup.getGenome(BenchmarkSetup.speciesForest);
+		chromosomes1 = genome.getChromosomes();
+		chromosomes2 = BenchmarkSetup.getGenome(BenchmarkSetup.speciesMeadows).getChromosomes();
+
+		housing = new BenchmarkBeeHousing(new HeadlessWorld());
+		queen = BenchmarkSetup.createQueen();
+	}
+
+	@Benchmark
+	public IChromosome[] inheritChromosomes() {
+		IChromosome[] inherited = new IChromosome[chromosomes1.length];
+		for (int i = 0; i < chromosomes1.length; i++) {
+			if (chromosomes1[i] != null && chromosomes2[i] != null) {
+				inherited[i] = Chromosome.inheritChromosome(random, chromosomes1[i], chromosomes2[i]);
+			}
+		}
+		return inherited;
+	}
+
+	@Benchmark
+	public NBTTagCompound writeGenome() {
+		NBTTagCompound nbt = new NBTTagCompound();
+		genome.writeToNBT(nbt);
+		return nbt;
+	}
+
+	/** Reads through the BeeGenome.fromNBT cache, the same way bee item stacks are read in game. */
+	@Benchmark
+	public IBeeGenome roundTripGenome() {
+		NBTTagCompound nbt = new NBTTagCompound();
+		genome.writeToNBT(nbt);
+		return BeeGenome.fromNBT(nbt);
+	}
+
+	/** Covers createOffspring and mutateSpecies for every drone. */
+	@Benchmark
+	public IBee[] spawnDrones() {
+		return queen.spawnDrones(housing);
+	}
+
+	@Benchmark
+	public IBee spawnPrincess() {
+		return queen.spawnPrincess(housing);
+	}
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.benchmark;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.entity.EnumCreatureType;
+import net.minecraft.util.IProgressUpdate;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.ChunkPosition;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.gen.ChunkProviderFlat;
+
+/**
+ * Generates default superflat chunks on demand and keeps them in memory.
+ */
+public class HeadlessChunkProvider implements IChunkProvider {
+	private final ChunkProviderFlat generator;
+	private final Map<Long, Chunk> chunks = new HashMap<>();
+
+	public HeadlessChunkProvider(World world) {
+		this.generator = new ChunkProviderFlat(world, 0L, false, null);
+	}
+
+	@Override
+	public boolean chunkExists(int chunkX, int chunkZ) {
+		return true;
+	}
+
+	@Override
+	public Chunk provideChunk(int chunkX, int chunkZ) {
+		long key = ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ);
+		Chunk chunk = chunks.get(key);
+		if (chunk == null) {
+			chunk = generator.provideChunk(chunkX, chunkZ);
+			chunk.isChunkLoaded = true;
+			chunks.put(key, chunk);
+		}
+		return chunk;
+	}
+
+	@Override
+	public Chunk loadChunk(int chunkX, int chunkZ) {
+		return provideChunk(chunkX, chunkZ);
+	}
+
+	@Override
+	public void populate(IChunkProvider chunkProvider, int chunkX, int chunkZ) {
+	}
+
+	@Override
+	public boolean saveChunks(boolean saveAll, IProgressUpdate progressUpdate) {
+		return true;
+	}
+
+	@Override
+	public boolean unloadQueuedChunks() {
+		return false;
+	}
+
+	@Override
+	public boolean canSave() {
+		return false;
+	}
+
+	@Override
+	public String makeString() {
+		return "HeadlessChunkProvider: " + chunks.size();
+	}
+
+	@Override
+	public List getPossibleCreatures(EnumCreatureType creatureType, int x, int y, int z) {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public ChunkPosition func_147416_a(World world, String structureName, int x, int y, int z) {
+		return null;
+	}
+
+	@Override
+	public int getLoadedChunkCount() {
+		return chunks.size();
+	}
+
+	@Override
+	public void recreateStructures(int chunkX, int chunkZ) {
+	}
+
+	@Override
+	public void saveExtraData() {
+	}
+}
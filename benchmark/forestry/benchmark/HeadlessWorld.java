@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.benchmark;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.profiler.Profiler;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldProviderSurface;
+import net.minecraft.world.WorldSettings;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraft.world.biome.WorldChunkManagerHell;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.storage.SaveHandlerMP;
+
+/**
+ * A superflat plains world that lives only in memory and is never ticked.
+ */
+public class HeadlessWorld extends World {
+
+	public HeadlessWorld() {
+		super(new SaveHandlerMP(), "benchmark", new HeadlessWorldProvider(), new WorldSettings(0L, WorldSettings.GameType.SURVIVAL, false, false, WorldType.FLAT), new Profiler());
+	}
+
+	@Override
+	protected IChunkProvider createChunkProvider() {
+		return new HeadlessChunkProvider(this);
+	}
+
+	@Override
+	public Entity getEntityByID(int id) {
+		return null;
+	}
+
+	@Override
+	protected int func_152379_p() {
+		return 0;
+	}
+
+	private static class HeadlessWorldProvider extends WorldProviderSurface {
+		@Override
+		protected void registerWorldChunkManager() {
+			this.worldChunkMgr = new WorldChunkManagerHell(BiomeGenBase.plains, 0.5F);
+		}
+	}
+}
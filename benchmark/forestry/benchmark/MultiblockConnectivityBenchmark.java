@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.minecraft.init.Blocks;
+import net.minecraft.world.World;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import forestry.core.multiblock.CoordTriplet;
+import forestry.core.multiblock.IMultiblockPart;
+import forestry.core.multiblock.MultiblockRegistry;
+
+/**
+ * Breaks a random part out of a solid multiblock and puts it back, processing the multiblock changes after each step
+ * like the server tick does. 5x4x5 is the largest farm. The machine straddles a chunk corner like many player builds.
+ *
+ * {@link #breakPart()} detaches the part the way a player breaking it does, which may take the local connectivity check.
+ * {@link #unloadPart()} detaches it as a chunk unload does, which always walks the whole machine, for comparison.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MultiblockConnectivityBenchmark {
+	@Param({"5x5x5", "5x4x5"})
+	public String size;
+
+	private final Random random = new Random(0);
+
+	private World world;
+	private CoordTriplet[] coords;
+
+	@Setup
+	public void setup() {
+		BenchmarkSetup.init();
+
+		world = new HeadlessWorld();
+
+		String[] dimensions = size.split("x");
+		int sizeX = Integer.parseInt(dimensions[0]);
+		int sizeY = Integer.parseInt(dimensions[1]);
+		int sizeZ = Integer.parseInt(dimensions[2]);
+
+		coords = new CoordTriplet[sizeX * sizeY * sizeZ];
+		int i = 0;
+		for (int x = -sizeX / 2; x < sizeX - sizeX / 2; x++) {
+			for (int y = 8; y < 8 + sizeY; y++) {
+				for (int z = -sizeZ / 2; z < sizeZ - sizeZ / 2; z++) {
+					// any block with a tile entity lets the chunk keep our part
+					world.setBlock(x, y, z, Blocks.noteblock);
+					world.setTileEntity(x, y, z, new BenchmarkMultiblockPart());
+					coords[i++] = new CoordTriplet(x, y, z);
+				}
+			}
+		}
+
+		MultiblockRegistry.tickStart(world);
+	}
+
+	@TearDown
+	public void tearDown() {
+		MultiblockRegistry.onWorldUnloaded(world);
+	}
+
+	@Benchmark
+	public int breakPart() {
+		CoordTriplet coord = coords[random.nextInt(coords.length)];
+
+		world.removeTileEntity(coord.x, coord.y, coord.z);
+		MultiblockRegistry.tickStart(world);
+
+		return replacePart(coord);
+	}
+
+	@Benchmark
+	public int unloadPart() {
+		CoordTriplet coord = coords[random.nextInt(coords.length)];
+
+		IMultiblockPart part = (IMultiblockPart) world.getTileEntity(coord.x, coord.y, coord.z);
+		part.onChunkUnload();
+		MultiblockRegistry.tickStart(world);
+
+		world.removeTileEntity(coord.x, coord.y, coord.z);
+		return replacePart(coord);
+	}
+
+	private int replacePart(CoordTriplet coord) {
+		BenchmarkMultiblockPart part = new BenchmarkMultiblockPart();
+		world.setTileEntity(coord.x, coord.y, coord.z, part);
+		MultiblockRegistry.tickStart(world);
+
+		return part.getMultiblockController().getNumConnectedBlocks();
+	}
+}
@@ -21,10 +21,14 @@ public class BeeHousingModifier implements IBeeModifier {
 		this.beeHousing = beeHousing;
 	}
 
+	protected Iterable<IBeeModifier> getModifiers() {
+		return beeHousing.getBeeModifiers();
+	}
+
 	@Override
 	public float getTerritoryModifier(IBeeGenome genome, final float currentModifier) {
 		float modifierValue = 1.0f;
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
+		for (IBeeModifier modifier : getModifiers()) {
 			modifierValue *= modifier.getTerritoryModifier(genome, modifierValue * currentModifier);
 		}
 		return modifierValue;
@@ -33,7 +37,7 @@ public class BeeHousingModifier implements IBeeModifier {
 	@Override
 	public float getMutationModifier(IBeeGenome genome, IBeeGenome mate, final float currentModifier) {
 		float modifierValue = 1.0f;
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
+		for (IBeeModifier modifier : getModifiers()) {
 			modifierValue *= modifier.getMutationModifier(genome, mate, modifierValue * currentModifier);
 		}
 		return modifierValue;
@@ -42,7 +46,7 @@ public class BeeHousingModifier implements IBeeModifier {
 	@Override
 	public float getLifespanModifier(IBeeGenome genome, IBeeGenome mate, final float currentModifier) {
 		float modifierValue = 1.0f;
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
+		for (IBeeModifier modifier : getModifiers()) {
 			modifierValue *= modifier.getLifespanModifier(genome, mate, modifierValue * currentModifier);
 		}
 		return modifierValue;
@@ -51,7 +55,7 @@ public class BeeHousingModifier implements IBeeModifier {
 	@Override
 	public float getProductionModifier(IBeeGenome genome, final float currentModifier) {
 		float modifierValue = 1.0f;
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
+		for (IBeeModifier modifier : getModifiers()) {
 			modifierValue *= modifier.getProductionModifier(genome, modifierValue * currentModifier);
 		}
 		return modifierValue;
@@ -60,7 +64,7 @@ public class BeeHousingModifier implements IBeeModifier {
 	@Override
 	public float getFloweringModifier(IBeeGenome genome, final float currentModifier) {
 		float modifierValue = 1.0f;
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
+		for (IBeeModifier modifier : getModifiers()) {
 			modifierValue *= modifier.getFloweringModifier(genome, modifierValue * currentModifier);
 		}
 		return modifierValue;
@@ -69,7 +73,7 @@ public class BeeHousingModifier implements IBeeModifier {
 	@Override
 	public float getGeneticDecay(IBeeGenome genome, final float currentModifier) {
 		float modifierValue = 1.0f;
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
+		for (IBeeModifier modifier : getModifiers()) {
 			modifierValue *= modifier.getGeneticDecay(genome, modifierValue * currentModifier);
 		}
 		return modifierValue;
@@ -77,7 +81,7 @@ public class BeeHousingModifier implements IBeeModifier {
 
 	@Override
 	public boolean isSealed() {
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
+		for (IBeeModifier modifier : getModifiers()) {
 			if (modifier.isSealed()) {
 				return true;
 			}
@@ -87,7 +91,7 @@ public class BeeHousingModifier implements IBeeModifier {
 
 	@Override
 	public boolean isSelfLighted() {
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
+		for (IBeeModifier modifier : getModifiers()) {
 			if (modifier.isSelfLighted()) {
 				return true;
 			}
@@ -97,7 +101,7 @@ public class BeeHousingModifier implements IBeeModifier {
 
 	@Override
 	public boolean isSunlightSimulated() {
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
+		for (IBeeModifier modifier : getModifiers()) {
 			if (modifier.isSunlightSimulated()) {
 				return true;
 			}
@@ -107,7 +111,7 @@ public class BeeHousingModifier implements IBeeModifier {
 
 	@Override
 	public boolean isHellish() {
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
+		for (IBeeModifier modifier : getModifiers()) {
 			if (modifier.isHellish()) {
 				return true;
 			}
@@ -72,11 +72,22 @@ public class BeekeepingLogic implements IBeekeepingLogic, IStreamable {
 	private ItemStack queenStack; // used to detect server changes and sync clientQueen
 
 	public BeekeepingLogic(IBeeHousing housing) {
+		this(housing, new BeeHousingModifier(housing));
+	}
+
+	/**
+	 * @param beeModifier aggregate modifier owned by the housing, handed out to every caller of createBeeHousingModifier.
+	 */
+	public BeekeepingLogic(IBeeHousing housing, IBeeModifier beeModifier) {
 		this.housing = housing;
-		this.beeModifier = BeeManager.beeRoot.createBeeHousingModifier(housing);
+		this.beeModifier = beeModifier;
 		this.beeListener = BeeManager.beeRoot.createBeeHousingListener(housing);
 	}
 
+	public IBeeModifier getBeeModifier() {
+		return beeModifier;
+	}
+
 	// / SAVING & LOADING
 	@Override
 	public void readFromNBT(NBTTagCompound nbttagcompound) {
@@ -417,7 +428,7 @@ public class BeekeepingLogic implements IBeekeepingLogic, IStreamable {
 	public void syncToClient() {
 		World world = housing.getWorld();
 		if (world != null && !world.isRemote) {
-			Proxies.net.sendNetworkPacket(new PacketBeekeepingLogicActive(housing), world);
+			Proxies.net.queueNetworkPacket(new PacketBeekeepingLogicActive(housing), world);
 		}
 	}
 
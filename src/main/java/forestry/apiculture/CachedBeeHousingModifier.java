@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.apiculture;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import forestry.api.apiculture.IBeeHousing;
+import forestry.api.apiculture.IBeeModifier;
+
+/**
+ * Aggregate modifier owned by one of Forestry's own bee housings.
+ * The housing's modifiers are collected once and kept until the housing calls {@link #invalidate()}
+ * after its frames or alveary components change. Their values are folded on every call,
+ * since a modifier may change its values without the housing knowing.
+ */
+public class CachedBeeHousingModifier extends BeeHousingModifier {
+	private final IBeeHousing beeHousing;
+
+	private List<IBeeModifier> modifiers;
+
+	public CachedBeeHousingModifier(IBeeHousing beeHousing) {
+		super(beeHousing);
+		this.beeHousing = beeHousing;
+	}
+
+	public void invalidate() {
+		modifiers = null;
+	}
+
+	@Override
+	protected Iterable<IBeeModifier> getModifiers() {
+		if (modifiers == null) {
+			modifiers = new ArrayList<>();
+			for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
+				modifiers.add(modifier);
+			}
+		}
+		return modifiers;
+	}
+}
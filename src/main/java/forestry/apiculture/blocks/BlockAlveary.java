@@ -37,6 +37,7 @@ import forestry.apiculture.multiblock.TileAlvearySieve;
 import forestry.apiculture.multiblock.TileAlvearyStabiliser;
 import forestry.apiculture.multiblock.TileAlvearySwarmer;
 import forestry.core.blocks.BlockStructure;
+import forestry.core.multiblock.MultiblockControllerBase;
 import forestry.core.multiblock.MultiblockRegistry;
 import forestry.core.render.TextureManager;
 
@@ -259,9 +260,14 @@ public class BlockAlveary extends BlockStructure {
 		TileEntity tileEntity = world.getTileEntity(x, y, z);
 		if (tileEntity instanceof TileAlveary) {
 			TileAlveary tileAlveary = (TileAlveary) tileEntity;
+			MultiblockControllerBase controller = tileAlveary.getMultiblockController();
+			if (controller == null) {
+				return;
+			}
 
-			// We must check that the slabs on top were not removed
-			MultiblockRegistry.addDirtyController(world, tileAlveary.getMultiblockController());
+			// We must check that the slabs on top were not removed.
+			controller.invalidateValidation();
+			MultiblockRegistry.addDirtyController(world, controller);
 		}
 	}
 }
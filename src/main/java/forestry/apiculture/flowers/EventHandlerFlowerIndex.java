@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.apiculture.flowers;
+
+import net.minecraft.world.chunk.Chunk;
+
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+
+public class EventHandlerFlowerIndex {
+	@SubscribeEvent
+	public void onWorldLoad(WorldEvent.Load event) {
+		FlowerIndex.onWorldLoad(event.world);
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		FlowerIndex.onWorldUnload(event.world);
+	}
+
+	@SubscribeEvent
+	public void onChunkLoad(ChunkEvent.Load event) {
+		onChunkChanged(event);
+	}
+
+	@SubscribeEvent
+	public void onChunkUnload(ChunkEvent.Unload event) {
+		onChunkChanged(event);
+	}
+
+	private static void onChunkChanged(ChunkEvent event) {
+		FlowerIndex flowerIndex = FlowerIndex.getIndex(event.world);
+		if (flowerIndex != null) {
+			Chunk chunk = event.getChunk();
+			flowerIndex.onChunkChanged(chunk.xPosition, chunk.zPosition);
+		}
+	}
+}
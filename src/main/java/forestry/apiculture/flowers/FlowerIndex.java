@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.apiculture.flowers;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.block.Block;
+import net.minecraft.util.ChunkCoordinates;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+import forestry.core.utils.WorldAccessAdapter;
+import forestry.core.utils.vect.Vect;
+
+/**
+ * Index of accepted flowers per 16x16x16 chunk section and flower type.
+ * Sections are scanned lazily the first time a housing asks about them and dropped again
+ * when a block inside them changes or their chunk is loaded or unloaded.
+ */
+public class FlowerIndex extends WorldAccessAdapter {
+	private static final Map<World, FlowerIndex> indexes = new WeakHashMap<>();
+
+	/** Sections are rescanned after this long, to pick up changes made without a block update. */
+	private static final int SECTION_REFRESH_TICKS = 1200;
+	private static final short[] NO_FLOWERS = new short[0];
+
+	private final Map<Long, Section> sections = new HashMap<>();
+
+	private static class Section {
+		private final long indexedTime;
+		private final Map<String, short[]> flowers = new HashMap<>();
+
+		public Section(long indexedTime) {
+			this.indexedTime = indexedTime;
+		}
+	}
+
+	public static FlowerIndex getIndex(World world) {
+		return indexes.get(world);
+	}
+
+	public static void onWorldLoad(World world) {
+		if (world.isRemote || indexes.containsKey(world)) {
+			return;
+		}
+		FlowerIndex flowerIndex = new FlowerIndex();
+		indexes.put(world, flowerIndex);
+		world.addWorldAccess(flowerIndex);
+	}
+
+	public static void onWorldUnload(World world) {
+		FlowerIndex flowerIndex = indexes.remove(world);
+		if (flowerIndex != null) {
+			world.removeWorldAccess(flowerIndex);
+		}
+	}
+
+	public void onChunkChanged(int chunkX, int chunkZ) {
+		for (int sectionY = 0; sectionY < 16; sectionY++) {
+			sections.remove(getSectionKey(chunkX, sectionY, chunkZ));
+		}
+	}
+
+	/**
+	 * @return any accepted flower of the given type inside the box starting at min with the given size,
+	 * or null if there is none in the loaded chunks.
+	 */
+	public ChunkCoordinates getAcceptedFlower(FlowerRegistry flowerRegistry, String flowerType, World world, Vect min, Vect area) {
+		int minY = Math.max(min.y, 0);
+		int maxX = min.x + area.x - 1;
+		int maxY = Math.min(min.y + area.y - 1, 255);
+		int maxZ = min.z + area.z - 1;
+		if (minY > maxY) {
+			return null;
+		}
+
+		for (int chunkX = min.x >> 4; chunkX <= maxX >> 4; chunkX++) {
+			for (int chunkZ = min.z >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+				if (!world.getChunkProvider().chunkExists(chunkX, chunkZ)) {
+					continue;
+				}
+
+				for (int sectionY = minY >> 4; sectionY <= maxY >> 4; sectionY++) {
+					short[] flowers = getFlowers(flowerRegistry, flowerType, world, chunkX, sectionY, chunkZ);
+					boolean stale = false;
+					for (short packedPos : flowers) {
+						int x = (chunkX << 4) | (packedPos & 15);
+						int z = (chunkZ << 4) | ((packedPos >> 4) & 15);
+						int y = (sectionY << 4) | ((packedPos >> 8) & 15);
+						if (x < min.x || x > maxX || y < minY || y > maxY || z < min.z || z > maxZ) {
+							continue;
+						}
+
+						if (flowerRegistry.isAcceptedFlower(flowerType, world, x, y, z)) {
+							if (stale) {
+								sections.remove(getSectionKey(chunkX, sectionY, chunkZ));
+							}
+							return new ChunkCoordinates(x, y, z);
+						}
+
+						// the section changed without a block update, scan it again next time but keep checking the other entries
+						stale = true;
+					}
+
+					if (stale) {
+						sections.remove(getSectionKey(chunkX, sectionY, chunkZ));
+					}
+				}
+			}
+		}
+
+		return null;
+	}
+
+	private short[] getFlowers(FlowerRegistry flowerRegistry, String flowerType, World world, int chunkX, int sectionY, int chunkZ) {
+		long sectionKey = getSectionKey(chunkX, sectionY, chunkZ);
+		long worldTime = world.getTotalWorldTime();
+
+		Section section = sections.get(sectionKey);
+		if (section == null || worldTime - section.indexedTime > SECTION_REFRESH_TICKS) {
+			section = new Section(worldTime);
+			sections.put(sectionKey, section);
+		}
+
+		short[] flowers = section.flowers.get(flowerType);
+		if (flowers == null) {
+			flowers = scanSection(flowerRegistry, flowerType, world, chunkX, sectionY, chunkZ);
+			section.flowers.put(flowerType, flowers);
+		}
+		return flowers;
+	}
+
+	private static short[] scanSection(FlowerRegistry flowerRegistry, String flowerType, World world, int chunkX, int sectionY, int chunkZ) {
+		Chunk chunk = world.getChunkFromChunkCoords(chunkX, chunkZ);
+		ExtendedBlockStorage storage = chunk.getBlockStorageArray()[sectionY];
+		if (storage == null || storage.isEmpty()) {
+			return NO_FLOWERS;
+		}
+
+		short[] found = new short[16];
+		int count = 0;
+		for (int y = 0; y < 16; y++) {
+			for (int z = 0; z < 16; z++) {
+				for (int x = 0; x < 16; x++) {
+					Block block = storage.getBlockByExtId(x, y, z);
+					if (!flowerRegistry.isFlowerCandidate(flowerType, block)) {
+						continue;
+					}
+
+					int worldX = (chunkX << 4) | x;
+					int worldY = (sectionY << 4) | y;
+					int worldZ = (chunkZ << 4) | z;
+					if (!flowerRegistry.isAcceptedFlower(flowerType, world, worldX, worldY, worldZ)) {
+						continue;
+					}
+
+					if (count == found.length) {
+						short[] grown = new short[found.length * 2];
+						System.arraycopy(found, 0, grown, 0, count);
+						found = grown;
+					}
+					found[count++] = (short) ((y << 8) | (z << 4) | x);
+				}
+			}
+		}
+
+		if (count == 0) {
+			return NO_FLOWERS;
+		}
+		short[] flowers = new short[count];
+		System.arraycopy(found, 0, flowers, 0, count);
+		return flowers;
+	}
+
+	private static long getSectionKey(int chunkX, int sectionY, int chunkZ) {
+		return ((chunkX & 0x3FFFFFL) << 26) | ((chunkZ & 0x3FFFFFL) << 4) | (sectionY & 15);
+	}
+
+	/* IWorldAccess */
+	@Override
+	public void markBlockForUpdate(int x, int y, int z) {
+		if (y >= 0 && y < 256) {
+			sections.remove(getSectionKey(x >> 4, y >> 4, z >> 4));
+		}
+	}
+}
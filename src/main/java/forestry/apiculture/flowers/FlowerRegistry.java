@@ -78,6 +78,9 @@ public final class FlowerRegistry implements IFlowerRegistry, IFlowerGrowthHelpe
 	private final ArrayListMultimap<String, IFlowerGrowthRule> growthRules;
 	private final Map<String, TreeMap<Double, Flower>> chances;
 
+	private boolean agriCraftCropsLookedUp;
+	private Block agriCraftCrops;
+
 	public FlowerRegistry() {
 		this.registeredRules = HashMultimap.create();
 		this.registeredBlocks = HashMultimap.create();
@@ -166,6 +169,14 @@ public final class FlowerRegistry implements IFlowerRegistry, IFlowerGrowthHelpe
 		Vect area = getArea(bee.getGenome(), beeModifier);
 		Vect housingPos = new Vect(beeHousing.getCoordinates()).add(-area.x / 2, -area.y / 2, -area.z / 2);
 
+		// custom rules can depend on anything, only block based flower types can be indexed
+		if (acceptableRules.isEmpty()) {
+			FlowerIndex flowerIndex = FlowerIndex.getIndex(world);
+			if (flowerIndex != null) {
+				return flowerIndex.getAcceptedFlower(this, flowerType, world, housingPos, area);
+			}
+		}
+
 		MutableVect posCurrent = new MutableVect(0, 0, 0);
 		while (posCurrent.advancePositionInArea(area)) {
 
@@ -204,6 +215,23 @@ public final class FlowerRegistry implements IFlowerRegistry, IFlowerGrowthHelpe
 		return isAcceptedFlower(flowerType, acceptedBlocks, acceptedFlowers, world, x, y, z);
 	}
 
+	/**
+	 * Quick check used when indexing whole chunk sections, before the full isAcceptedFlower test.
+	 */
+	boolean isFlowerCandidate(String flowerType, Block block) {
+		return block instanceof BlockFlowerPot || (block != null && block == getAgriCraftCrops()) || this.registeredBlocks.containsEntry(flowerType, block);
+	}
+
+	private Block getAgriCraftCrops() {
+		if (!agriCraftCropsLookedUp) {
+			agriCraftCropsLookedUp = true;
+			if (PluginManager.Module.AGRICRAFT.isEnabled()) {
+				agriCraftCrops = GameRegistry.findBlock("AgriCraft", "crops");
+			}
+		}
+		return agriCraftCrops;
+	}
+
 	private static boolean isAcceptedFlower(String flowerType, Set<Block> acceptedBlocks, Set<Flower> acceptedFlowers, World world, int x, int y, int z) {
 		Block block = world.getBlock(x, y, z);
 
@@ -61,6 +61,7 @@ import forestry.core.errors.EnumErrorCode;
 import forestry.core.genetics.Chromosome;
 import forestry.core.genetics.GenericRatings;
 import forestry.core.genetics.IndividualLiving;
+import forestry.core.utils.BiomeClimateCache;
 import forestry.core.utils.GeneticsUtil;
 import forestry.core.utils.Log;
 import forestry.core.utils.StringUtil;
@@ -298,16 +299,6 @@ public class Bee extends IndividualLiving implements IBee {
 		return !genome.getPrimary().isNocturnal() || genome.getNocturnal();
 	}
 
-	private boolean isSuitableBiome(BiomeGenBase biome) {
-		if (biome == null) {
-			return false;
-		}
-
-		EnumTemperature temperature = EnumTemperature.getFromBiome(biome);
-		EnumHumidity humidity = EnumHumidity.getFromValue(biome.rainfall);
-		return isSuitableClimate(temperature, humidity);
-	}
-
 	private boolean isSuitableClimate(EnumTemperature temperature, EnumHumidity humidity) {
 		return AlleleManager.climateHelper.isWithinLimits(temperature, humidity,
 				genome.getPrimary().getTemperature(), genome.getToleranceTemp(),
@@ -316,14 +307,8 @@ public class Bee extends IndividualLiving implements IBee {
 
 	@Override
 	public ArrayList<BiomeGenBase> getSuitableBiomes() {
-		ArrayList<BiomeGenBase> suitableBiomes = new ArrayList<>();
-		for (BiomeGenBase biome : BiomeGenBase.getBiomeGenArray()) {
-			if (isSuitableBiome(biome)) {
-				suitableBiomes.add(biome);
-			}
-		}
-
-		return suitableBiomes;
+		IAlleleBeeSpecies primary = genome.getPrimary();
+		return new ArrayList<>(BiomeClimateCache.getSuitableBiomes(primary.getTemperature(), genome.getToleranceTemp(), primary.getHumidity(), genome.getToleranceHumid()));
 	}
 
 	@Override
@@ -41,6 +41,7 @@ import forestry.api.apiculture.IBeekeepingLogic;
 import forestry.api.apiculture.IBeekeepingMode;
 import forestry.api.genetics.AlleleManager;
 import forestry.api.genetics.IAllele;
+import forestry.api.genetics.IBreedingTracker;
 import forestry.api.genetics.IChromosomeType;
 import forestry.api.genetics.IIndividual;
 import forestry.api.genetics.IMutation;
@@ -253,6 +254,7 @@ public class BeeHelper extends SpeciesRoot implements IBeeRoot {
 		}
 
 		beeMutations.add((IBeeMutation) mutation);
+		onMutationRegistered(mutation);
 	}
 
 	/* BREEDING MODES */
@@ -313,6 +315,11 @@ public class BeeHelper extends SpeciesRoot implements IBeeRoot {
 
 	@Override
 	public IApiaristTracker getBreedingTracker(World world, GameProfile player) {
+		IBreedingTracker cachedTracker = getCachedBreedingTracker(world, player);
+		if (cachedTracker instanceof IApiaristTracker) {
+			return (IApiaristTracker) cachedTracker;
+		}
+
 		String filename = "ApiaristTracker." + (player == null ? "common" : player.getId());
 		ApiaristTracker tracker = (ApiaristTracker) world.loadItemData(ApiaristTracker.class, filename);
 
@@ -322,6 +329,7 @@ public class BeeHelper extends SpeciesRoot implements IBeeRoot {
 			world.setItemData(filename, tracker);
 		}
 
+		cacheBreedingTracker(world, player, tracker);
 		return tracker;
 	}
 
@@ -332,6 +340,10 @@ public class BeeHelper extends SpeciesRoot implements IBeeRoot {
 
 	@Override
 	public IBeeModifier createBeeHousingModifier(IBeeHousing housing) {
+		IBeekeepingLogic beekeepingLogic = housing.getBeekeepingLogic();
+		if (beekeepingLogic instanceof BeekeepingLogic) {
+			return ((BeekeepingLogic) beekeepingLogic).getBeeModifier();
+		}
 		return new BeeHousingModifier(housing);
 	}
 
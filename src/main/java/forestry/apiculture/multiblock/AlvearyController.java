@@ -17,13 +17,11 @@ import java.util.Set;
 import net.minecraft.block.Block;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.ChunkCoordinates;
-import net.minecraft.util.StatCollector;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.BiomeGenBase;
 
 import com.mojang.authlib.GameProfile;
 
-import forestry.api.apiculture.BeeManager;
 import forestry.api.apiculture.DefaultBeeModifier;
 import forestry.api.apiculture.IAlvearyComponent;
 import forestry.api.apiculture.IBeeGenome;
@@ -35,13 +33,15 @@ import forestry.api.core.EnumHumidity;
 import forestry.api.core.EnumTemperature;
 import forestry.api.core.IClimateControlled;
 import forestry.apiculture.BeeHousingInventory;
+import forestry.apiculture.BeekeepingLogic;
+import forestry.apiculture.CachedBeeHousingModifier;
 import forestry.core.access.EnumAccess;
 import forestry.core.inventory.IInventoryAdapter;
 import forestry.core.multiblock.CoordTriplet;
 import forestry.core.multiblock.IMultiblockPart;
 import forestry.core.multiblock.MultiblockControllerBase;
 import forestry.core.multiblock.MultiblockTileEntityBase;
-import forestry.core.multiblock.MultiblockValidationException;
+import forestry.core.multiblock.MultiblockValidationError;
 import forestry.core.multiblock.rectangular.RectangularMultiblockControllerBase;
 import forestry.core.network.DataInputStreamForestry;
 import forestry.core.network.DataOutputStreamForestry;
@@ -52,6 +52,7 @@ import forestry.core.utils.BlockUtil;
 public class AlvearyController extends RectangularMultiblockControllerBase implements IAlvearyController, IClimateControlled {
 
 	private final BeeHousingInventory inventory;
+	private final CachedBeeHousingModifier beeModifier;
 	private final IBeekeepingLogic beekeepingLogic;
 
 	private BiomeGenBase cachedBiome;
@@ -71,7 +72,8 @@ public class AlvearyController extends RectangularMultiblockControllerBase imple
 	public AlvearyController(World world) {
 		super(world);
 		this.inventory = new BeeHousingInventory(9, "Items", getAccessHandler());
-		this.beekeepingLogic = BeeManager.beeRoot.createBeekeepingLogic(this);
+		this.beeModifier = new CachedBeeHousingModifier(this);
+		this.beekeepingLogic = new BeekeepingLogic(this, beeModifier);
 
 		this.beeModifiers.add(new AlvearyBeeModifier());
 	}
@@ -118,8 +120,8 @@ public class AlvearyController extends RectangularMultiblockControllerBase imple
 
 			if (newPart instanceof IAlvearyComponent.BeeModifier) {
 				IAlvearyComponent.BeeModifier alvearyBeeModifier = (IAlvearyComponent.BeeModifier) newPart;
-				IBeeModifier beeModifier = alvearyBeeModifier.getBeeModifier();
-				beeModifiers.add(beeModifier);
+				beeModifiers.add(alvearyBeeModifier.getBeeModifier());
+				beeModifier.invalidate();
 			}
 
 			if (newPart instanceof IAlvearyComponent.BeeListener) {
@@ -145,8 +147,8 @@ public class AlvearyController extends RectangularMultiblockControllerBase imple
 
 			if (oldPart instanceof IAlvearyComponent.BeeModifier) {
 				IAlvearyComponent.BeeModifier alvearyBeeModifier = (IAlvearyComponent.BeeModifier) oldPart;
-				IBeeModifier beeModifier = alvearyBeeModifier.getBeeModifier();
-				beeModifiers.remove(beeModifier);
+				beeModifiers.remove(alvearyBeeModifier.getBeeModifier());
+				beeModifier.invalidate();
 			}
 
 			if (oldPart instanceof IAlvearyComponent.BeeListener) {
@@ -166,8 +168,11 @@ public class AlvearyController extends RectangularMultiblockControllerBase imple
 	}
 
 	@Override
-	protected void isMachineWhole() throws MultiblockValidationException {
-		super.isMachineWhole();
+	protected MultiblockValidationError isMachineWhole() {
+		MultiblockValidationError error = super.isMachineWhole();
+		if (error != null) {
+			return error;
+		}
 
 		final CoordTriplet maximumCoord = getMaximumCoord();
 		final CoordTriplet minimumCoord = getMinimumCoord();
@@ -179,12 +184,12 @@ public class AlvearyController extends RectangularMultiblockControllerBase imple
 			for (int slabZ = minimumCoord.z; slabZ <= maximumCoord.z; slabZ++) {
 				Block block = worldObj.getBlock(slabX, slabY, slabZ);
 				if (!BlockUtil.isWoodSlabBlock(block)) {
-					throw new MultiblockValidationException(StatCollector.translateToLocal("for.multiblock.alveary.error.needSlabs"));
+					return new MultiblockValidationError("for.multiblock.alveary.error.needSlabs");
 				}
 
 				int meta = worldObj.getBlockMetadata(slabX, slabY, slabZ);
 				if ((meta & 8) != 0) {
-					throw new MultiblockValidationException(StatCollector.translateToLocal("for.multiblock.alveary.error.needSlabs"));
+					return new MultiblockValidationError("for.multiblock.alveary.error.needSlabs");
 				}
 			}
 		}
@@ -199,10 +204,12 @@ public class AlvearyController extends RectangularMultiblockControllerBase imple
 				}
 				Block block = worldObj.getBlock(airX, airY, airZ);
 				if (block.isOpaqueCube()) {
-					throw new MultiblockValidationException(StatCollector.translateToLocal("for.multiblock.alveary.error.needSpace"));
+					return new MultiblockValidationError("for.multiblock.alveary.error.needSpace");
 				}
 			}
 		}
+
+		return null;
 	}
 
 	@Override
@@ -383,7 +390,6 @@ public class AlvearyController extends RectangularMultiblockControllerBase imple
 
 	@Override
 	public EnumTemperature getTemperature() {
-		IBeeModifier beeModifier = BeeManager.beeRoot.createBeeHousingModifier(this);
 		if (beeModifier.isHellish() && tempChange >= 0) {
 			return EnumTemperature.HELLISH;
 		}
@@ -11,7 +11,6 @@
 package forestry.apiculture.multiblock;
 
 import net.minecraft.util.ChunkCoordinates;
-import net.minecraft.util.StatCollector;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.BiomeGenBase;
 
@@ -25,7 +24,7 @@ import forestry.api.core.EnumTemperature;
 import forestry.api.core.IErrorLogic;
 import forestry.apiculture.blocks.BlockAlveary;
 import forestry.core.multiblock.MultiblockControllerBase;
-import forestry.core.multiblock.MultiblockValidationException;
+import forestry.core.multiblock.MultiblockValidationError;
 import forestry.core.multiblock.rectangular.RectangularMultiblockTileEntityBase;
 
 public abstract class TileAlveary extends RectangularMultiblockTileEntityBase implements IBeeHousing {
@@ -45,17 +44,19 @@ public abstract class TileAlveary extends RectangularMultiblockTileEntityBase im
 	}
 
 	@Override
-	public void isGoodForExteriorLevel(int level) throws MultiblockValidationException {
+	public MultiblockValidationError isGoodForExteriorLevel(int level) {
 		if (level == 2 && !(this instanceof TileAlvearyPlain)) {
-			throw new MultiblockValidationException(StatCollector.translateToLocal("for.multiblock.alveary.error.needPlainOnTop"));
+			return new MultiblockValidationError("for.multiblock.alveary.error.needPlainOnTop");
 		}
+		return null;
 	}
 
 	@Override
-	public void isGoodForInterior() throws MultiblockValidationException {
+	public MultiblockValidationError isGoodForInterior() {
 		if (!(this instanceof TileAlvearyPlain)) {
-			throw new MultiblockValidationException(StatCollector.translateToLocal("for.multiblock.alveary.error.needPlainInterior"));
+			return new MultiblockValidationError("for.multiblock.alveary.error.needPlainInterior");
 		}
+		return null;
 	}
 
 	@Override
@@ -19,18 +19,20 @@ import net.minecraft.world.biome.BiomeGenBase;
 
 import com.mojang.authlib.GameProfile;
 
-import forestry.api.apiculture.BeeManager;
 import forestry.api.apiculture.IBeeHousing;
 import forestry.api.apiculture.IBeekeepingLogic;
 import forestry.api.core.EnumHumidity;
 import forestry.api.core.EnumTemperature;
 import forestry.apiculture.BeeHousingInventory;
+import forestry.apiculture.BeekeepingLogic;
+import forestry.apiculture.CachedBeeHousingModifier;
 import forestry.core.config.Config;
 import forestry.core.proxy.Proxies;
 import forestry.core.tiles.IClimatised;
 import forestry.core.tiles.TileBase;
 
 public abstract class TileAbstractBeeHousing extends TileBase implements IBeeHousing, IClimatised {
+	private final CachedBeeHousingModifier beeModifier;
 	private final IBeekeepingLogic beeLogic;
 	private BiomeGenBase cachedBiome;
 
@@ -39,7 +41,13 @@ public abstract class TileAbstractBeeHousing extends TileBase implements IBeeHou
 
 	protected TileAbstractBeeHousing() {
 		setHints(Config.hints.get("apiary"));
-		this.beeLogic = BeeManager.beeRoot.createBeekeepingLogic(this);
+		this.beeModifier = new CachedBeeHousingModifier(this);
+		this.beeLogic = new BeekeepingLogic(this, beeModifier);
+	}
+
+	/** Must be called whenever the result of getBeeModifiers() changes. */
+	protected void onBeeModifiersChanged() {
+		beeModifier.invalidate();
 	}
 
 	@Override
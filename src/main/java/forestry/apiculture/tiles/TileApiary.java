@@ -20,6 +20,7 @@ import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
 
 import net.minecraftforge.common.util.ForgeDirection;
@@ -132,8 +133,34 @@ public class TileApiary extends TileAbstractBeeHousing {
 		public static final int SLOT_FRAMES_1 = 9;
 		public static final int SLOT_FRAMES_COUNT = 3;
 
+		private final TileApiary apiary;
+
 		public ApiaryInventory(TileApiary tile, int size, String name) {
 			super(tile, size, name);
+			this.apiary = tile;
+		}
+
+		@Override
+		public ItemStack decrStackSize(int slotId, int count) {
+			ItemStack itemStack = super.decrStackSize(slotId, count);
+			if (SlotUtil.isSlotInRange(slotId, SLOT_FRAMES_1, SLOT_FRAMES_COUNT)) {
+				apiary.onBeeModifiersChanged();
+			}
+			return itemStack;
+		}
+
+		@Override
+		public void setInventorySlotContents(int slotId, ItemStack itemstack) {
+			super.setInventorySlotContents(slotId, itemstack);
+			if (SlotUtil.isSlotInRange(slotId, SLOT_FRAMES_1, SLOT_FRAMES_COUNT)) {
+				apiary.onBeeModifiersChanged();
+			}
+		}
+
+		@Override
+		public void readFromNBT(NBTTagCompound nbttagcompound) {
+			super.readFromNBT(nbttagcompound);
+			apiary.onBeeModifiersChanged();
 		}
 
 		@Override
@@ -73,22 +73,44 @@ public class Tree extends Individual implements ITree, IPlantable {
 		setGenome(genome);
 	}
 
+	private Tree(NBTTagCompound nbttagcompound, boolean internGenomes) {
+		readFromNBT(nbttagcompound, internGenomes);
+	}
+
+	/**
+	 * Reads a tree like {@link #Tree(NBTTagCompound)}, but shares its genomes with other trees through {@link TreeGenomeCache}.
+	 * Only for trees whose genomes are never changed afterwards, like the ones held by leaves.
+	 */
+	public static Tree readInterned(NBTTagCompound nbttagcompound) {
+		return new Tree(nbttagcompound, true);
+	}
+
 	/* SAVING & LOADING */
 	@Override
 	public void readFromNBT(NBTTagCompound nbttagcompound) {
+		readFromNBT(nbttagcompound, false);
+	}
+
+	private void readFromNBT(NBTTagCompound nbttagcompound, boolean internGenomes) {
 
 		super.readFromNBT(nbttagcompound);
 
+		ITreeGenome genome;
 		if (nbttagcompound.hasKey("Genome")) {
-			setGenome(new TreeGenome(nbttagcompound.getCompoundTag("Genome")));
+			genome = new TreeGenome(nbttagcompound.getCompoundTag("Genome"));
 		} else {
-			setGenome(TreeDefinition.Oak.getGenome());
+			genome = TreeDefinition.Oak.getGenome();
 		}
 
 		if (nbttagcompound.hasKey("Mate")) {
 			mate = new TreeGenome(nbttagcompound.getCompoundTag("Mate"));
 		}
 
+		if (internGenomes) {
+			genome = TreeGenomeCache.intern(genome);
+			mate = TreeGenomeCache.intern(mate);
+		}
+		setGenome(genome);
 	}
 
 	@Override
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.arboriculture.genetics;
+
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.MapMaker;
+
+import forestry.api.arboriculture.ITreeGenome;
+import forestry.api.genetics.IAllele;
+import forestry.api.genetics.IChromosome;
+import forestry.api.genetics.IGenome;
+
+/**
+ * Shares one genome instance between all trees with the same alleles.
+ * Leaves of a single tree almost always carry identical genomes, so this keeps
+ * millions of loaded leaves from each holding their own chromosome arrays.
+ * Entries are weakly referenced and disappear once no tree uses them anymore.
+ */
+public class TreeGenomeCache {
+
+	private static final ConcurrentMap<String, ITreeGenome> genomes = new MapMaker().weakValues().makeMap();
+
+	public static ITreeGenome intern(ITreeGenome genome) {
+		if (genome == null) {
+			return null;
+		}
+
+		ITreeGenome cached = genomes.putIfAbsent(getKey(genome), genome);
+		return cached != null ? cached : genome;
+	}
+
+	/**
+	 * @return a key built from the active and inactive allele UIDs of every chromosome.
+	 */
+	public static String getKey(IGenome genome) {
+		StringBuilder key = new StringBuilder();
+		for (IChromosome chromosome : genome.getChromosomes()) {
+			if (chromosome != null) {
+				appendAllele(key, chromosome.getActiveAllele());
+				appendAllele(key, chromosome.getInactiveAllele());
+			} else {
+				key.append("||");
+			}
+		}
+		return key.toString();
+	}
+
+	private static void appendAllele(StringBuilder key, IAllele allele) {
+		if (allele != null) {
+			key.append(allele.getUID());
+		}
+		key.append('|');
+	}
+}
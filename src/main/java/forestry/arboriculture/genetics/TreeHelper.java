@@ -45,6 +45,7 @@ import forestry.api.arboriculture.ITreekeepingMode;
 import forestry.api.arboriculture.TreeManager;
 import forestry.api.genetics.AlleleManager;
 import forestry.api.genetics.IAllele;
+import forestry.api.genetics.IBreedingTracker;
 import forestry.api.genetics.IChromosomeType;
 import forestry.api.genetics.IIndividual;
 import forestry.api.genetics.IMutation;
@@ -263,6 +264,11 @@ public class TreeHelper extends SpeciesRoot implements ITreeRoot {
 	/* BREEDING TRACKER */
 	@Override
 	public IArboristTracker getBreedingTracker(World world, GameProfile player) {
+		IBreedingTracker cachedTracker = getCachedBreedingTracker(world, player);
+		if (cachedTracker instanceof IArboristTracker) {
+			return (IArboristTracker) cachedTracker;
+		}
+
 		String filename = "ArboristTracker." + (player == null ? "common" : player.getId());
 		ArboristTracker tracker = (ArboristTracker) world.loadItemData(ArboristTracker.class, filename);
 
@@ -272,6 +278,7 @@ public class TreeHelper extends SpeciesRoot implements ITreeRoot {
 			world.setItemData(filename, tracker);
 		}
 
+		cacheBreedingTracker(world, player, tracker);
 		return tracker;
 	}
 
@@ -366,6 +373,7 @@ public class TreeHelper extends SpeciesRoot implements ITreeRoot {
 		}
 
 		treeMutations.add((ITreeMutation) mutation);
+		onMutationRegistered(mutation);
 	}
 
 	/* ILEAFTICKHANDLER */
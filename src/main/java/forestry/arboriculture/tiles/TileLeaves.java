@@ -123,7 +123,7 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 			}
 
 			if (nbttagcompound.hasKey("ContainedTree")) {
-				setTree(new Tree(nbttagcompound.getCompoundTag("ContainedTree")));
+				setTree(Tree.readInterned(nbttagcompound.getCompoundTag("ContainedTree")));
 			}
 		}
 	}
@@ -368,7 +368,7 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 
 	/* NETWORK */
 	private void sendNetworkUpdate() {
-		Proxies.net.sendNetworkPacket(new PacketTileStream(this), worldObj);
+		Proxies.net.queueNetworkPacket(new PacketTileStream(this), worldObj);
 	}
 
 	private void sendNetworkUpdateRipening() {
@@ -379,7 +379,7 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 		colourFruits = newColourFruits;
 
 		PacketRipeningUpdate ripeningUpdate = new PacketRipeningUpdate(this);
-		Proxies.net.sendNetworkPacket(ripeningUpdate, worldObj);
+		Proxies.net.queueNetworkPacket(ripeningUpdate, worldObj);
 	}
 
 	private static final short hasFruitFlag = 1;
@@ -12,6 +12,10 @@ package forestry.core;
 
 import net.minecraft.world.World;
 
+import forestry.api.genetics.AlleleManager;
+import forestry.api.genetics.ISpeciesRoot;
+import forestry.core.genetics.SpeciesRoot;
+
 public class SaveEventHandlerCore implements ISaveEventHandler {
 
 	@Override
@@ -24,6 +28,11 @@ public class SaveEventHandlerCore implements ISaveEventHandler {
 
 	@Override
 	public void onWorldUnload(World world) {
+		for (ISpeciesRoot speciesRoot : AlleleManager.alleleRegistry.getSpeciesRoot().values()) {
+			if (speciesRoot instanceof SpeciesRoot) {
+				((SpeciesRoot) speciesRoot).clearBreedingTrackers(world);
+			}
+		}
 	}
 
 }
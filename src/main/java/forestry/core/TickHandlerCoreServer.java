@@ -28,6 +28,7 @@ import cpw.mods.fml.common.gameevent.TickEvent.WorldTickEvent;
 
 import forestry.core.config.Config;
 import forestry.core.config.Constants;
+import forestry.core.network.OutboundPacketQueue;
 import forestry.core.worldgen.WorldGenerator;
 import forestry.plugins.PluginManager;
 
@@ -74,6 +75,8 @@ public class TickHandlerCoreServer {
 				worldGenerator.retroGen(random, coords.xCoord, coords.zCoord, world);
 			}
 		}
+
+		OutboundPacketQueue.flush(event.world);
 	}
 
 	@SubscribeEvent
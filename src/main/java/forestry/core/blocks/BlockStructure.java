@@ -21,6 +21,7 @@ import net.minecraft.world.World;
 import forestry.core.circuits.ISocketable;
 import forestry.core.multiblock.MultiblockControllerBase;
 import forestry.core.multiblock.MultiblockTileEntityBase;
+import forestry.core.multiblock.MultiblockValidationError;
 import forestry.core.utils.InventoryUtil;
 
 public abstract class BlockStructure extends BlockForestry {
@@ -58,11 +59,11 @@ public abstract class BlockStructure extends BlockForestry {
 		// multiblock-debugging message if the machine is not assembled.
 		if (player.getCurrentEquippedItem() == null && !controller.isAssembled()) {
 			if (controller != null) {
-				Exception e = controller.getLastValidationException();
-				if (e != null) {
+				MultiblockValidationError error = controller.getLastValidationError();
+				if (error != null) {
 					long tick = world.getTotalWorldTime();
 					if (tick > previousMessageTick + 20) {
-						player.addChatMessage(new ChatComponentText(e.getMessage()));
+						player.addChatMessage(new ChatComponentText(error.getLocalizedMessage()));
 						previousMessageTick = tick;
 					}
 					return true;
@@ -78,6 +78,8 @@ public class Config {
 
 	// Performance
 	public static boolean enableBackpackResupply = true;
+	public static int backpackResupplyInterval = 10;
+	public static int multiblockTickBudget = 0;
 
 	// Customization
 	private static boolean craftingBronzeEnabled = true;
@@ -86,6 +88,7 @@ public class Config {
 	public static final ArrayList<String> collectorStamps = new ArrayList<>();
 
 	public static int farmSize = 2;
+	public static int farmWorkBatchSize = 1;
 	public static boolean squareFarms = false;
 	private static boolean enableExUtilEnderLily = true;
 	private static boolean enableMagicalCropsSupport = true;
@@ -251,6 +254,8 @@ public class Config {
 		dungeonLootRare = configCommon.getBooleanLocalized("difficulty", "loot.rare", dungeonLootRare);
 
 		enableBackpackResupply = configCommon.getBooleanLocalized("performance", "backpacks.resupply", enableBackpackResupply);
+		backpackResupplyInterval = configCommon.getIntLocalized("performance", "backpacks.resupply.interval", backpackResupplyInterval, 1, 1200);
+		multiblockTickBudget = configCommon.getIntLocalized("performance", "multiblocks.tick.budget", multiblockTickBudget, 0, 50000);
 
 		mailAlertEnabled = configCommon.getBooleanLocalized("tweaks.gui", "mail.alert", mailAlertEnabled);
 
@@ -261,6 +266,7 @@ public class Config {
 		enablePermissions = configCommon.getBooleanLocalized("tweaks", "permissions", enablePermissions);
 
 		farmSize = configCommon.getIntLocalized("tweaks.farms", "size", farmSize, 1, 3);
+		farmWorkBatchSize = configCommon.getIntLocalized("tweaks.farms", "work.batch", farmWorkBatchSize, 1, 64);
 		squareFarms = configCommon.getBooleanLocalized("tweaks.farms", "square", squareFarms);
 		enableExUtilEnderLily = configCommon.getBooleanLocalized("tweaks.farms", "enderlily", enableExUtilEnderLily);
 		enableMagicalCropsSupport = configCommon.getBooleanLocalized("tweaks.farms", "magicalcrops", enableMagicalCropsSupport);
@@ -15,46 +15,95 @@ import com.google.common.collect.ImmutableSet;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Arrays;
 
 import forestry.api.core.ForestryAPI;
 import forestry.api.core.IErrorLogic;
 import forestry.api.core.IErrorState;
 
+/**
+ * Stores error states as bits at their {@link ErrorStateRegistry#getIndex(IErrorState)}.
+ *
+ * Machines typically clear and set all their conditions every tick, so the version only advances
+ * when it is read and the errors differ from the last time it was read.
+ */
 public class ErrorLogic implements IErrorLogic {
-	private final Set<IErrorState> errorStates = new HashSet<>();
+	private long[] errorBits = new long[1];
+
+	// state of errorBits when the version was last advanced
+	private long[] publishedBits = new long[1];
+	private int version;
+	private ImmutableSet<IErrorState> errorStatesView = ImmutableSet.of();
 
 	@Override
 	public final boolean setCondition(boolean condition, IErrorState errorState) {
+		int index = ErrorStateRegistry.getIndex(errorState);
+		int word = index >>> 6;
 		if (condition) {
-			errorStates.add(errorState);
-		} else {
-			errorStates.remove(errorState);
+			if (word >= errorBits.length) {
+				errorBits = Arrays.copyOf(errorBits, word + 1);
+			}
+			errorBits[word] |= 1L << index;
+		} else if (word < errorBits.length) {
+			errorBits[word] &= ~(1L << index);
 		}
 		return condition;
 	}
 
 	public final boolean contains(IErrorState state) {
-		return errorStates.contains(state);
+		int index = ErrorStateRegistry.getIndex(state);
+		int word = index >>> 6;
+		return word < errorBits.length && (errorBits[word] & 1L << index) != 0;
 	}
 
 	public final boolean hasErrors() {
-		return errorStates.size() > 0;
+		for (long bits : errorBits) {
+			if (bits != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return a number which changes whenever the error states have changed since it was last read.
+	 */
+	public final int getVersion() {
+		if (!Arrays.equals(errorBits, publishedBits)) {
+			publishedBits = errorBits.clone();
+			errorStatesView = null;
+			version++;
+		}
+		return version;
 	}
 
 	@Override
 	public final ImmutableSet<IErrorState> getErrorStates() {
-		return ImmutableSet.copyOf(errorStates);
+		getVersion();
+		if (errorStatesView == null) {
+			ImmutableSet.Builder<IErrorState> builder = ImmutableSet.builder();
+			for (int word = 0; word < publishedBits.length; word++) {
+				long bits = publishedBits[word];
+				while (bits != 0) {
+					int bit = Long.numberOfTrailingZeros(bits);
+					builder.add(ErrorStateRegistry.getErrorStateByIndex((word << 6) + bit));
+					bits &= bits - 1;
+				}
+			}
+			errorStatesView = builder.build();
+		}
+		return errorStatesView;
 	}
 
 	@Override
 	public void clearErrors() {
-		errorStates.clear();
+		Arrays.fill(errorBits, 0);
 	}
 
 	@Override
 	public void writeData(DataOutputStream data) throws IOException {
+		// indexes are assigned per side, only the registry ids are the same on server and client
+		ImmutableSet<IErrorState> errorStates = getErrorStates();
 		data.writeShort(errorStates.size());
 		for (IErrorState errorState : errorStates) {
 			data.writeShort(errorState.getID());
@@ -69,7 +118,9 @@ public class ErrorLogic implements IErrorLogic {
 		for (int i = 0; i < errorStateCount; i++) {
 			short errorStateId = data.readShort();
 			IErrorState errorState = ForestryAPI.errorStateRegistry.getErrorState(errorStateId);
-			errorStates.add(errorState);
+			if (errorState != null) {
+				setCondition(true, errorState);
+			}
 		}
 	}
 }
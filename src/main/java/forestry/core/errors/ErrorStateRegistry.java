@@ -15,8 +15,12 @@ import com.google.common.collect.HashBiMap;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import net.minecraft.client.renderer.texture.IIconRegister;
 
@@ -37,6 +41,10 @@ public class ErrorStateRegistry implements IErrorStateRegistry {
 	private static final Map<String, IErrorState> stateNames = new HashMap<>();
 	private static final Set<IErrorState> stateView = Collections.unmodifiableSet(states.inverse().keySet());
 
+	// dense indexes for ErrorLogic's bit sets, read from both the server and the client thread
+	private static final ConcurrentMap<IErrorState, Integer> stateIndexes = new ConcurrentHashMap<>();
+	private static final List<IErrorState> indexedStates = new CopyOnWriteArrayList<>();
+
 	@Override
 	public void registerErrorState(IErrorState state) {
 		if (states.containsKey(state.getID())) {
@@ -45,6 +53,7 @@ public class ErrorStateRegistry implements IErrorStateRegistry {
 
 		states.put(state.getID(), state);
 		addStateName(state, state.getUniqueName());
+		getIndex(state);
 	}
 
 	@Override
@@ -68,6 +77,32 @@ public class ErrorStateRegistry implements IErrorStateRegistry {
 		stateNames.put(name, state);
 	}
 
+	/**
+	 * @return a small index unique to the state, assigned on registration or on first use for unregistered states.
+	 * Indexes are not saved and may differ between server and client, use the id for that.
+	 */
+	public static int getIndex(IErrorState state) {
+		Integer index = stateIndexes.get(state);
+		if (index == null) {
+			index = addIndex(state);
+		}
+		return index;
+	}
+
+	private static synchronized int addIndex(IErrorState state) {
+		Integer index = stateIndexes.get(state);
+		if (index == null) {
+			index = indexedStates.size();
+			indexedStates.add(state);
+			stateIndexes.put(state, index);
+		}
+		return index;
+	}
+
+	public static IErrorState getErrorStateByIndex(int index) {
+		return indexedStates.get(index);
+	}
+
 	@Override
 	public IErrorState getErrorState(short id) {
 		return states.get(id);
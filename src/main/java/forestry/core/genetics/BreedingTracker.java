@@ -10,6 +10,7 @@
  ******************************************************************************/
 package forestry.core.genetics;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -48,9 +49,15 @@ public abstract class BreedingTracker extends WorldSavedData implements IBreedin
 	public static final String TYPE_KEY = "TYPE";
 
 	private final Set<String> discoveredSpecies = new HashSet<>();
+	private final BitSet discoveredMutationIds = new BitSet();
+	private final BitSet researchedMutationIds = new BitSet();
+	// mutations that are not registered with the species root, kept so they survive saving
 	private final Set<String> discoveredMutations = new HashSet<>();
 	private final Set<String> researchedMutations = new HashSet<>();
 	private String modeName;
+	private SpeciesRoot speciesRoot;
+	// number of mutation ids the unknown mutations were last mapped against
+	private int mappedMutationIdCount;
 
 	private final GameProfile username;
 
@@ -115,8 +122,9 @@ public abstract class BreedingTracker extends WorldSavedData implements IBreedin
 		}
 
 		readValuesFromNBT(nbttagcompound, discoveredSpecies, SPECIES_COUNT_KEY, SPECIES_KEY);
-		readValuesFromNBT(nbttagcompound, discoveredMutations, MUTATIONS_COUNT_KEY, MUTATIONS_KEY);
-		readValuesFromNBT(nbttagcompound, researchedMutations, RESEARCHED_COUNT_KEY, RESEARCHED_KEY);
+		readMutationsFromNBT(nbttagcompound, discoveredMutationIds, discoveredMutations, MUTATIONS_COUNT_KEY, MUTATIONS_KEY);
+		readMutationsFromNBT(nbttagcompound, researchedMutationIds, researchedMutations, RESEARCHED_COUNT_KEY, RESEARCHED_KEY);
+		mapUnknownMutations(true);
 	}
 
 	@Override
@@ -129,8 +137,57 @@ public abstract class BreedingTracker extends WorldSavedData implements IBreedin
 		nbttagcompound.setString(TYPE_KEY, speciesRootUID());
 
 		writeValuesToNBT(nbttagcompound, discoveredSpecies, SPECIES_COUNT_KEY, SPECIES_KEY);
-		writeValuesToNBT(nbttagcompound, discoveredMutations, MUTATIONS_COUNT_KEY, MUTATIONS_KEY);
-		writeValuesToNBT(nbttagcompound, researchedMutations, RESEARCHED_COUNT_KEY, RESEARCHED_KEY);
+		writeMutationsToNBT(nbttagcompound, discoveredMutationIds, discoveredMutations, MUTATIONS_COUNT_KEY, MUTATIONS_KEY);
+		writeMutationsToNBT(nbttagcompound, researchedMutationIds, researchedMutations, RESEARCHED_COUNT_KEY, RESEARCHED_KEY);
+	}
+
+	private void readMutationsFromNBT(NBTTagCompound nbttagcompound, BitSet mutationIds, Set<String> unknownMutations, String countKey, String key) {
+		readValuesFromNBT(nbttagcompound, unknownMutations, countKey, key);
+		mutationIds.clear();
+	}
+
+	/**
+	 * Moves unknown mutations which have since been registered with the species root into the bitsets.
+	 * Mutations may be registered after a tracker was loaded, so this runs again whenever the root hands out new ids.
+	 */
+	private void mapUnknownMutations(boolean force) {
+		SpeciesRoot root = getSpeciesRoot();
+		if (root == null) {
+			return;
+		}
+
+		int mutationIdCount = root.getMutationIdCount();
+		if (!force && mutationIdCount == mappedMutationIdCount) {
+			return;
+		}
+		mappedMutationIdCount = mutationIdCount;
+
+		mapUnknownMutations(root, discoveredMutationIds, discoveredMutations);
+		mapUnknownMutations(root, researchedMutationIds, researchedMutations);
+	}
+
+	private static void mapUnknownMutations(SpeciesRoot root, BitSet mutationIds, Set<String> unknownMutations) {
+		Iterator<String> iterator = unknownMutations.iterator();
+		while (iterator.hasNext()) {
+			int mutationId = root.getMutationId(iterator.next());
+			if (mutationId >= 0) {
+				mutationIds.set(mutationId);
+				iterator.remove();
+			}
+		}
+	}
+
+	private void writeMutationsToNBT(NBTTagCompound nbttagcompound, BitSet mutationIds, Set<String> unknownMutations, String countKey, String key) {
+		Set<String> mutations = new HashSet<>(unknownMutations);
+
+		SpeciesRoot root = getSpeciesRoot();
+		if (root != null) {
+			for (int mutationId = mutationIds.nextSetBit(0); mutationId >= 0; mutationId = mutationIds.nextSetBit(mutationId + 1)) {
+				mutations.add(getMutationString(root.getMutation(mutationId)));
+			}
+		}
+
+		writeValuesToNBT(nbttagcompound, mutations, countKey, key);
 	}
 
 	private static void readValuesFromNBT(NBTTagCompound nbttagcompound, Collection<String> values, String countKey, String key) {
@@ -158,18 +215,57 @@ public abstract class BreedingTracker extends WorldSavedData implements IBreedin
 		}
 	}
 
-	private static String getMutationString(IMutation mutation) {
+	static String getMutationString(IMutation mutation) {
 		String species0 = mutation.getAllele0().getUID();
 		String species1 = mutation.getAllele1().getUID();
 		String resultSpecies = mutation.getTemplate()[0].getUID();
 		return String.format(MUTATION_FORMAT, species0, species1, resultSpecies);
 	}
 
+	private SpeciesRoot getSpeciesRoot() {
+		if (speciesRoot == null) {
+			ISpeciesRoot root = AlleleManager.alleleRegistry.getSpeciesRoot(speciesRootUID());
+			if (root instanceof SpeciesRoot) {
+				speciesRoot = (SpeciesRoot) root;
+			}
+		}
+		return speciesRoot;
+	}
+
+	private boolean containsMutation(IMutation mutation, BitSet mutationIds, Set<String> unknownMutations) {
+		mapUnknownMutations(false);
+		SpeciesRoot root = getSpeciesRoot();
+		if (root != null) {
+			int mutationId = root.getMutationId(mutation);
+			if (mutationId >= 0) {
+				return mutationIds.get(mutationId);
+			}
+		}
+		return unknownMutations.contains(getMutationString(mutation));
+	}
+
+	/**
+	 * @return true if the mutation was not contained before.
+	 */
+	private boolean addMutation(IMutation mutation, BitSet mutationIds, Set<String> unknownMutations) {
+		mapUnknownMutations(false);
+		SpeciesRoot root = getSpeciesRoot();
+		if (root != null) {
+			int mutationId = root.getMutationId(mutation);
+			if (mutationId >= 0) {
+				if (mutationIds.get(mutationId)) {
+					return false;
+				}
+				mutationIds.set(mutationId);
+				return true;
+			}
+		}
+		return unknownMutations.add(getMutationString(mutation));
+	}
+
 	@Override
 	public void registerMutation(IMutation mutation) {
-		String mutationString = getMutationString(mutation);
-		if (!discoveredMutations.contains(mutationString)) {
-			discoveredMutations.add(mutationString);
+		if (addMutation(mutation, discoveredMutationIds, discoveredMutations)) {
 			markDirty();
 
 			ISpeciesRoot speciesRoot = AlleleManager.alleleRegistry.getSpeciesRoot(speciesRootUID());
@@ -180,8 +276,7 @@ public abstract class BreedingTracker extends WorldSavedData implements IBreedin
 
 	@Override
 	public boolean isDiscovered(IMutation mutation) {
-		String mutationString = getMutationString(mutation);
-		return discoveredMutations.contains(mutationString);
+		return containsMutation(mutation, discoveredMutationIds, discoveredMutations);
 	}
 
 	@Override
@@ -213,9 +308,7 @@ public abstract class BreedingTracker extends WorldSavedData implements IBreedin
 
 	@Override
 	public void researchMutation(IMutation mutation) {
-		String mutationString = getMutationString(mutation);
-		if (!researchedMutations.contains(mutationString)) {
-			researchedMutations.add(mutationString);
+		if (addMutation(mutation, researchedMutationIds, researchedMutations)) {
 			markDirty();
 
 			registerMutation(mutation);
@@ -224,7 +317,6 @@ public abstract class BreedingTracker extends WorldSavedData implements IBreedin
 
 	@Override
 	public boolean isResearched(IMutation mutation) {
-		String mutationString = getMutationString(mutation);
-		return researchedMutations.contains(mutationString);
+		return containsMutation(mutation, researchedMutationIds, researchedMutations);
 	}
 }
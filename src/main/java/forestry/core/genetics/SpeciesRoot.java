@@ -15,15 +15,26 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.UUID;
+import java.util.WeakHashMap;
 
 import net.minecraft.item.ItemStack;
+import net.minecraft.world.World;
+
+import com.mojang.authlib.GameProfile;
+
+import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.ImmutableTable;
+import com.google.common.collect.Table;
 
 import forestry.api.genetics.IAllele;
 import forestry.api.genetics.IAlleleSpecies;
+import forestry.api.genetics.IBreedingTracker;
 import forestry.api.genetics.IChromosome;
 import forestry.api.genetics.IChromosomeType;
 import forestry.api.genetics.IMutation;
@@ -88,19 +99,114 @@ public abstract class SpeciesRoot implements ISpeciesRoot {
 	public List<IMutation> getCombinations(IAlleleSpecies parentSpecies0, IAlleleSpecies parentSpecies1, boolean shuffle) {
 		List<IMutation> combinations = new ArrayList<>();
 
-		String parentSpecies1UID = parentSpecies1.getUID();
-		for (IMutation mutation : getMutations(shuffle)) {
-			if (mutation.isPartner(parentSpecies0)) {
-				IAllele partner = mutation.getPartner(parentSpecies0);
-				if (partner != null && partner.getUID().equals(parentSpecies1UID)) {
-					combinations.add(mutation);
-				}
+		IMutation[] mutations = getMutationIndex().get(parentSpecies0.getUID(), parentSpecies1.getUID());
+		if (mutations != null) {
+			Collections.addAll(combinations, mutations);
+			if (shuffle) {
+				Collections.shuffle(combinations);
 			}
 		}
 
 		return combinations;
 	}
 
+	/**
+	 * Mutations keyed by the UIDs of both parent species, in registration order.
+	 * Built on first lookup and discarded whenever a mutation is registered.
+	 */
+	private volatile Table<String, String, IMutation[]> mutationIndex;
+
+	/**
+	 * Ids handed out in registration order, used by breeding trackers to store mutations as bits.
+	 * Mutations which are saved under the same key share one id, since trackers cannot tell them apart once saved.
+	 */
+	private final List<IMutation> mutationsById = new ArrayList<>();
+	private final Map<IMutation, Integer> mutationIds = new IdentityHashMap<>();
+	private final Map<String, Integer> mutationIdsByKey = new HashMap<>();
+
+	protected void onMutationRegistered(IMutation mutation) {
+		if (!mutationIds.containsKey(mutation)) {
+			String key = BreedingTracker.getMutationString(mutation);
+			Integer id = mutationIdsByKey.get(key);
+			if (id == null) {
+				id = mutationsById.size();
+				mutationsById.add(mutation);
+				mutationIdsByKey.put(key, id);
+			}
+			mutationIds.put(mutation, id);
+		}
+
+		mutationIndex = null;
+	}
+
+	/**
+	 * @return the id of a registered mutation, or -1 if the mutation was never registered with this root.
+	 */
+	public int getMutationId(IMutation mutation) {
+		Integer id = mutationIds.get(mutation);
+		return id != null ? id : -1;
+	}
+
+	/**
+	 * @return the id of the registered mutation saved as the given key by breeding trackers, or -1 if there is none.
+	 */
+	public int getMutationId(String mutationKey) {
+		Integer id = mutationIdsByKey.get(mutationKey);
+		return id != null ? id : -1;
+	}
+
+	/**
+	 * @return the number of mutation ids handed out so far.
+	 */
+	public int getMutationIdCount() {
+		return mutationsById.size();
+	}
+
+	/**
+	 * @return the first mutation registered with the given id.
+	 */
+	public IMutation getMutation(int id) {
+		return mutationsById.get(id);
+	}
+
+	private Table<String, String, IMutation[]> getMutationIndex() {
+		Table<String, String, IMutation[]> index = mutationIndex;
+		if (index == null) {
+			index = buildMutationIndex();
+			mutationIndex = index;
+		}
+		return index;
+	}
+
+	private Table<String, String, IMutation[]> buildMutationIndex() {
+		Table<String, String, List<IMutation>> mutationsByParents = HashBasedTable.create();
+		for (IMutation mutation : getMutations(false)) {
+			String species0UID = mutation.getAllele0().getUID();
+			String species1UID = mutation.getAllele1().getUID();
+
+			addToMutationIndex(mutationsByParents, species0UID, species1UID, mutation);
+			if (!species0UID.equals(species1UID)) {
+				addToMutationIndex(mutationsByParents, species1UID, species0UID, mutation);
+			}
+		}
+
+		ImmutableTable.Builder<String, String, IMutation[]> builder = ImmutableTable.builder();
+		for (Table.Cell<String, String, List<IMutation>> cell : mutationsByParents.cellSet()) {
+			List<IMutation> mutations = cell.getValue();
+			builder.put(cell.getRowKey(), cell.getColumnKey(), mutations.toArray(new IMutation[mutations.size()]));
+		}
+		return builder.build();
+	}
+
+	private static void addToMutationIndex(Table<String, String, List<IMutation>> mutationsByParents, String species0UID, String species1UID, IMutation mutation) {
+		List<IMutation> mutations = mutationsByParents.get(species0UID, species1UID);
+		if (mutations == null) {
+			mutations = new ArrayList<>();
+			mutationsByParents.put(species0UID, species1UID, mutations);
+		}
+		mutations.add(mutation);
+	}
+
 	@Override
 	public Collection<? extends IMutation> getPaths(IAllele result, IChromosomeType chromosomeType) {
 		ArrayList<IMutation> paths = new ArrayList<>();
@@ -113,6 +219,39 @@ public abstract class SpeciesRoot implements ISpeciesRoot {
 		return paths;
 	}
 
+	/* BREEDING TRACKERS */
+	private final Map<World, Map<UUID, IBreedingTracker>> breedingTrackers = new WeakHashMap<>();
+
+	/**
+	 * Uses the zero UUID for the common tracker.
+	 */
+	private static final UUID COMMON_TRACKER_ID = new UUID(0, 0);
+
+	protected synchronized IBreedingTracker getCachedBreedingTracker(World world, GameProfile player) {
+		Map<UUID, IBreedingTracker> worldTrackers = breedingTrackers.get(world);
+		if (worldTrackers == null) {
+			return null;
+		}
+		return worldTrackers.get(getTrackerId(player));
+	}
+
+	protected synchronized void cacheBreedingTracker(World world, GameProfile player, IBreedingTracker tracker) {
+		Map<UUID, IBreedingTracker> worldTrackers = breedingTrackers.get(world);
+		if (worldTrackers == null) {
+			worldTrackers = new HashMap<>();
+			breedingTrackers.put(world, worldTrackers);
+		}
+		worldTrackers.put(getTrackerId(player), tracker);
+	}
+
+	public synchronized void clearBreedingTrackers(World world) {
+		breedingTrackers.remove(world);
+	}
+
+	private static UUID getTrackerId(GameProfile player) {
+		return player == null ? COMMON_TRACKER_ID : player.getId();
+	}
+
 	/* GENOME CONVERSIONS */
 	@Override
 	public IChromosome[] templateAsChromosomes(IAllele[] template) {
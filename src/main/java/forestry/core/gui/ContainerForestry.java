@@ -18,6 +18,7 @@ import net.minecraft.item.ItemStack;
 
 import forestry.core.gui.slots.SlotForestry;
 import forestry.core.network.IForestryPacketClient;
+import forestry.core.network.PacketCoordinates;
 import forestry.core.proxy.Proxies;
 import forestry.core.utils.SlotUtil;
 
@@ -72,4 +73,12 @@ public abstract class ContainerForestry extends Container {
 			}
 		}
 	}
+
+	protected final <P extends PacketCoordinates & IForestryPacketClient> void queuePacketToCrafters(P packet) {
+		for (Object crafter : crafters) {
+			if (crafter instanceof EntityPlayer) {
+				Proxies.net.queueToPlayer(packet, (EntityPlayer) crafter);
+			}
+		}
+	}
 }
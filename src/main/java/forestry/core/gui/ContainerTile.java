@@ -16,11 +16,13 @@ import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.tileentity.TileEntity;
 
+import forestry.api.core.IErrorLogic;
 import forestry.api.core.IErrorLogicSource;
 import forestry.api.core.IErrorState;
 import forestry.core.access.EnumAccess;
 import forestry.core.access.FakeAccessHandler;
 import forestry.core.access.IAccessHandler;
+import forestry.core.errors.ErrorLogic;
 import forestry.core.network.PacketErrorUpdate;
 import forestry.core.network.PacketGuiEnergy;
 import forestry.core.network.PacketGuiUpdate;
@@ -62,6 +64,7 @@ public abstract class ContainerTile<T extends TileEntity> extends ContainerFores
 	}
 
 	private ImmutableSet<IErrorState> previousErrorStates;
+	private Integer previousErrorVersion;
 	private int previousEnergyManagerData = 0;
 	private EnumAccess previousAccess;
 	private int previousWorkCounter = 0;
@@ -73,14 +76,27 @@ public abstract class ContainerTile<T extends TileEntity> extends ContainerFores
 
 		if (tile instanceof IErrorLogicSource) {
 			IErrorLogicSource errorLogicSource = (IErrorLogicSource) tile;
-			ImmutableSet<IErrorState> errorStates = errorLogicSource.getErrorLogic().getErrorStates();
+			IErrorLogic errorLogic = errorLogicSource.getErrorLogic();
 
-			if ((previousErrorStates != null) && !errorStates.equals(previousErrorStates)) {
-				PacketErrorUpdate packet = new PacketErrorUpdate(tile, errorLogicSource);
-				sendPacketToCrafters(packet);
-			}
+			if (errorLogic instanceof ErrorLogic) {
+				int errorVersion = ((ErrorLogic) errorLogic).getVersion();
+
+				if ((previousErrorVersion != null) && errorVersion != previousErrorVersion) {
+					PacketErrorUpdate packet = new PacketErrorUpdate(tile, errorLogicSource);
+					queuePacketToCrafters(packet);
+				}
 
-			previousErrorStates = errorStates;
+				previousErrorVersion = errorVersion;
+			} else {
+				ImmutableSet<IErrorState> errorStates = errorLogic.getErrorStates();
+
+				if ((previousErrorStates != null) && !errorStates.equals(previousErrorStates)) {
+					PacketErrorUpdate packet = new PacketErrorUpdate(tile, errorLogicSource);
+					queuePacketToCrafters(packet);
+				}
+
+				previousErrorStates = errorStates;
+			}
 		}
 
 		if (tile instanceof IPowerHandler) {
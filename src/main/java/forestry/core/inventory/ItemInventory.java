@@ -30,11 +30,14 @@ public abstract class ItemInventory implements IInventory, IFilterSlotDelegate {
 	private final EntityPlayer player;
 	private final ItemStack parent;
 	private final ItemStack[] inventoryStacks;
+	// What was last written to the parent's NBT for each slot, so markDirty only writes the slots that changed since
+	private final ItemStack[] writtenStacks;
 
 	public ItemInventory(EntityPlayer player, int size, ItemStack parent) {
 		this.player = player;
 		this.parent = parent;
 		this.inventoryStacks = new ItemStack[size];
+		this.writtenStacks = new ItemStack[size];
 
 		setUID(); // Set a uid to identify the itemstack on SMP
 
@@ -128,6 +131,7 @@ public abstract class ItemInventory implements IInventory, IFilterSlotDelegate {
 				} else {
 					inventoryStacks[i] = null;
 				}
+				writtenStacks[i] = getWrittenState(inventoryStacks[i]);
 			}
 		} else {
 
@@ -161,19 +165,77 @@ public abstract class ItemInventory implements IInventory, IFilterSlotDelegate {
 		NBTTagCompound nbt = parent.getTagCompound();
 		NBTTagCompound slotsNbt = new NBTTagCompound();
 		for (int i = 0; i < getSizeInventory(); i++) {
-			ItemStack itemStack = getStackInSlot(i);
-			if (itemStack != null) {
-				String slotKey = getSlotNBTKey(i);
-				NBTTagCompound itemNbt = new NBTTagCompound();
-				itemStack.writeToNBT(itemNbt);
-				slotsNbt.setTag(slotKey, itemNbt);
-			}
+			writeSlotToNBT(slotsNbt, i);
 		}
 
 		nbt.setTag(KEY_SLOTS, slotsNbt);
 		nbt.removeTag(KEY_ITEMS);
 	}
 
+	/**
+	 * Writes only the slots whose stacks were replaced or changed in place since they were last written.
+	 * Falls back to writing everything if the parent lost its slot NBT.
+	 */
+	private void writeChangedSlotsToParentNBT() {
+		ItemStack parent = getParent();
+		if (parent == null) {
+			return;
+		}
+
+		NBTTagCompound nbt = parent.getTagCompound();
+		if (nbt == null || !nbt.hasKey(KEY_SLOTS)) {
+			if (nbt == null) {
+				parent.setTagCompound(new NBTTagCompound());
+			}
+			writeToParentNBT();
+			return;
+		}
+
+		NBTTagCompound slotsNbt = nbt.getCompoundTag(KEY_SLOTS);
+		for (int i = 0; i < getSizeInventory(); i++) {
+			if (!isWritten(inventoryStacks[i], writtenStacks[i])) {
+				writeSlotToNBT(slotsNbt, i);
+			}
+		}
+	}
+
+	private void writeSlotToNBT(NBTTagCompound slotsNbt, int slotIndex) {
+		ItemStack itemStack = inventoryStacks[slotIndex];
+		String slotKey = getSlotNBTKey(slotIndex);
+
+		if (itemStack == null) {
+			slotsNbt.removeTag(slotKey);
+		} else {
+			NBTTagCompound itemNbt = new NBTTagCompound();
+			itemStack.writeToNBT(itemNbt);
+			slotsNbt.setTag(slotKey, itemNbt);
+		}
+
+		writtenStacks[slotIndex] = getWrittenState(itemStack);
+	}
+
+	// The written NBT shares the stack's tag compound, so a changed tag compound only matters if it was replaced
+	private static ItemStack getWrittenState(ItemStack itemStack) {
+		if (itemStack == null) {
+			return null;
+		}
+
+		ItemStack writtenState = new ItemStack(itemStack.getItem(), itemStack.stackSize, itemStack.getItemDamage());
+		writtenState.stackTagCompound = itemStack.stackTagCompound;
+		return writtenState;
+	}
+
+	private static boolean isWritten(ItemStack itemStack, ItemStack writtenState) {
+		if (itemStack == null || writtenState == null) {
+			return itemStack == writtenState;
+		}
+
+		return itemStack.getItem() == writtenState.getItem() &&
+				itemStack.stackSize == writtenState.stackSize &&
+				itemStack.getItemDamage() == writtenState.getItemDamage() &&
+				itemStack.stackTagCompound == writtenState.stackTagCompound;
+	}
+
 	private static String getSlotNBTKey(int i) {
 		return Integer.toString(i, Character.MAX_RADIX);
 	}
@@ -222,16 +284,7 @@ public abstract class ItemInventory implements IInventory, IFilterSlotDelegate {
 			slotNbt = nbt.getCompoundTag(KEY_SLOTS);
 		}
 
-		String slotKey = getSlotNBTKey(i);
-
-		if (itemstack == null) {
-			slotNbt.removeTag(slotKey);
-		} else {
-			NBTTagCompound itemNbt = new NBTTagCompound();
-			itemstack.writeToNBT(itemNbt);
-
-			slotNbt.setTag(slotKey, itemNbt);
-		}
+		writeSlotToNBT(slotNbt, i);
 	}
 
 	@Override
@@ -256,7 +309,7 @@ public abstract class ItemInventory implements IInventory, IFilterSlotDelegate {
 
 	@Override
 	public final void markDirty() {
-		writeToParentNBT();
+		writeChangedSlotsToParentNBT();
 	}
 
 	@Override
@@ -4,8 +4,11 @@ import com.google.common.collect.HashMultiset;
 import com.google.common.collect.Multiset;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Random;
 import java.util.Set;
 
@@ -33,7 +36,6 @@ import forestry.core.network.DataInputStreamForestry;
 import forestry.core.network.DataOutputStreamForestry;
 import forestry.core.tiles.IRestrictedAccessTile;
 import forestry.core.utils.Log;
-import forestry.core.utils.StringUtil;
 
 /**
  * This class contains the base logic for "multiblock controllers". Conceptually, they are
@@ -54,6 +56,20 @@ public abstract class MultiblockControllerBase implements ISidedInventory, IRest
 
 	protected AssemblyState assemblyState;
 
+	// Why the tick scheduler currently skips this machine, see sleep()
+	public enum SleepState {
+		Awake,
+		/** Woken by {@link #wakeUp(SleepState)} for an inventory change, or a structural change. */
+		WaitingForInventory,
+		/** Woken by {@link #wakeUp(SleepState)} for incoming power, or a structural change. */
+		WaitingForPower,
+		/** Sleeps until its wake-up tick, only a structural change ends it early. */
+		WaitingForTick
+	}
+
+	private SleepState sleepState = SleepState.Awake;
+	private long wakeUpTick;
+
 	protected HashSet<IMultiblockPart> connectedParts;
 	
 	/** This is a deterministically-picked coordinate that identifies this
@@ -77,14 +93,28 @@ public abstract class MultiblockControllerBase implements ISidedInventory, IRest
 	private CoordTriplet maximumCoord;
 	
 	/**
-	 * Set to true whenever a part is removed from this controller.
+	 * Set to true whenever a part is removed from this controller,
+	 * unless a local search proves the removal did not split the machine.
 	 */
 	private boolean shouldCheckForDisconnections;
+
+	/**
+	 * Upper bound on the parts visited when checking locally whether a detached part was a cut point.
+	 * Beyond this we give up and let checkForDisconnections walk the whole machine.
+	 */
+	private static final int MAX_LOCAL_CONNECTIVITY_VISITS = 64;
 	
 	/**
 	 * Set whenever we validate the multiblock
 	 */
-	private MultiblockValidationException lastValidationException;
+	private MultiblockValidationError lastValidationError;
+
+	/**
+	 * Counts changes to connectedParts and calls to invalidateValidation().
+	 * As long as it matches the count lastValidationError was computed for, re-checking the machine reuses the cached verdict.
+	 */
+	private int partsModificationCount;
+	private int lastValidatedModificationCount = -1;
 
 	// Ticks
 	private static final Random rand = new Random();
@@ -107,7 +137,7 @@ public abstract class MultiblockControllerBase implements ISidedInventory, IRest
 		maximumCoord = null;
 
 		shouldCheckForDisconnections = true;
-		lastValidationException = null;
+		lastValidationError = null;
 
 		accessHandler = new AccessHandler(this);
 		errorLogic = ForestryAPI.errorStateRegistry.createErrorLogic();
@@ -147,6 +177,7 @@ public abstract class MultiblockControllerBase implements ISidedInventory, IRest
 	public void attachBlock(IMultiblockPart part) {
 		CoordTriplet coord = part.getWorldLocation();
 
+		partsModificationCount++;
 		if (!connectedParts.add(part)) {
 			Log.warning("[%s] Controller %s is double-adding part %d @ %s. This is unusual. If you encounter odd behavior, please tear down the machine and rebuild it.", (worldObj.isRemote ? "CLIENT" : "SERVER"), hashCode(), part.hashCode(), coord);
 		}
@@ -307,8 +338,11 @@ public abstract class MultiblockControllerBase implements ISidedInventory, IRest
 			this.onMachinePaused();
 		}
 
+		boolean disconnectionCheckPending = shouldCheckForDisconnections;
+
 		// Strip out this part
 		onDetachBlock(part);
+		partsModificationCount++;
 		if (!connectedParts.remove(part)) {
 			Log.warning("[%s] Double-removing part (%d) @ %d, %d, %d, this is unexpected and may cause problems. If you encounter anomalies, please tear down the reactor and rebuild it.", worldObj.isRemote ? "CLIENT" : "SERVER", part.hashCode(), part.xCoord, part.yCoord, part.zCoord);
 		}
@@ -319,6 +353,13 @@ public abstract class MultiblockControllerBase implements ISidedInventory, IRest
 			return;
 		}
 
+		// A single part broken out of an otherwise healthy machine rarely splits it,
+		// so skip the full connectivity walk when its former neighbors can still reach each other.
+		// Chunk unloads can take out many parts at once and always get the full check.
+		if (!disconnectionCheckPending && !chunkUnloading && areNeighborsStillConnected(part)) {
+			shouldCheckForDisconnections = false;
+		}
+
 		MultiblockRegistry.addDirtyController(this.worldObj, this);
 
 		// Find new save delegate if we need to.
@@ -327,6 +368,48 @@ public abstract class MultiblockControllerBase implements ISidedInventory, IRest
 		}
 	}
 
+	/**
+	 * Checks whether removing a part could have split this machine, by searching outward from one of its
+	 * former neighbors until all the others are reached. Parts with at most one neighbor can never be cut points.
+	 * @param detachedPart The part which was just removed from this controller.
+	 * @return True if all former neighbors are still connected, false if that could not be shown within a small budget.
+	 */
+	private boolean areNeighborsStillConnected(IMultiblockPart detachedPart) {
+		List<IMultiblockPart> neighbors = new ArrayList<>();
+		for (IMultiblockPart neighbor : detachedPart.getNeighboringParts()) {
+			if (neighbor.getMultiblockController() == this) {
+				neighbors.add(neighbor);
+			}
+		}
+
+		if (neighbors.size() <= 1) {
+			return true;
+		}
+
+		IMultiblockPart start = neighbors.get(0);
+		Set<IMultiblockPart> unreached = new HashSet<>(neighbors.subList(1, neighbors.size()));
+		Set<IMultiblockPart> visited = new HashSet<>();
+		ArrayDeque<IMultiblockPart> partsToCheck = new ArrayDeque<>();
+		visited.add(start);
+		partsToCheck.add(start);
+
+		while (!partsToCheck.isEmpty() && visited.size() < MAX_LOCAL_CONNECTIVITY_VISITS) {
+			IMultiblockPart part = partsToCheck.removeFirst();
+			for (IMultiblockPart nearbyPart : part.getNeighboringParts()) {
+				if (nearbyPart == detachedPart || nearbyPart.getMultiblockController() != this || !visited.add(nearbyPart)) {
+					continue;
+				}
+
+				if (unreached.remove(nearbyPart) && unreached.isEmpty()) {
+					return true;
+				}
+				partsToCheck.add(nearbyPart);
+			}
+		}
+
+		return false;
+	}
+
 	/**
 	 * Helper method so we don't check for a whole machine until we have enough blocks
 	 * to actually assemble it. This isn't as simple as xmax*ymax*zmax for non-cubic machines
@@ -382,17 +465,26 @@ public abstract class MultiblockControllerBase implements ISidedInventory, IRest
 	
 	
 	/**
-	 * @return An exception representing the last error encountered when trying to assemble this
+	 * @return The last error encountered when trying to assemble this
 	 * multiblock, or null if there is no error.
 	 */
-	public MultiblockValidationException getLastValidationException() {
-		return lastValidationException;
+	public MultiblockValidationError getLastValidationError() {
+		return lastValidationError;
+	}
+
+	/**
+	 * Forces the next call to checkIfMachineIsWhole to validate the machine again even if its parts did not change.
+	 * Call this when a non-part block the structure depends on may have changed.
+	 */
+	public void invalidateValidation() {
+		partsModificationCount++;
 	}
 	
 	/**
-	 * Checks if a machine is whole. If not, throws an exception with the reason why.
+	 * Checks if a machine is whole.
+	 * @return null if the machine is whole, otherwise the reason why it is not.
 	 */
-	protected abstract void isMachineWhole() throws MultiblockValidationException;
+	protected abstract MultiblockValidationError isMachineWhole();
 	
 	/**
 	 * Check if the machine is whole or not.
@@ -402,17 +494,16 @@ public abstract class MultiblockControllerBase implements ISidedInventory, IRest
 	 */
 	public void checkIfMachineIsWhole() {
 		AssemblyState oldState = this.assemblyState;
-		boolean isWhole;
-		lastValidationException = null;
-		try {
-			isMachineWhole();
-			isWhole = true;
-		} catch (MultiblockValidationException e) {
-			lastValidationException = e;
-			isWhole = false;
+
+		if (partsModificationCount != lastValidatedModificationCount) {
+			lastValidationError = isMachineWhole();
+			lastValidatedModificationCount = partsModificationCount;
 		}
 		
-		if (isWhole) {
+		// Any change to the structure may give a sleeping machine something to do
+		wakeUp();
+
+		if (lastValidationError == null) {
 			// This will alter assembly state
 			assembleMachine(oldState);
 		} else if (oldState == AssemblyState.Assembled) {
@@ -480,6 +571,7 @@ public abstract class MultiblockControllerBase implements ISidedInventory, IRest
 			}
 			
 			connectedParts.add(acquiredPart);
+			partsModificationCount++;
 			acquiredPart.onAssimilated(this);
 			this.onBlockAdded(acquiredPart);
 		}
@@ -505,6 +597,7 @@ public abstract class MultiblockControllerBase implements ISidedInventory, IRest
 		}
 
 		connectedParts.clear();
+		partsModificationCount++;
 	}
 	
 	/**
@@ -524,6 +617,52 @@ public abstract class MultiblockControllerBase implements ISidedInventory, IRest
 	 */
 	protected abstract void onAssimilated(MultiblockControllerBase assimilator);
 	
+	/**
+	 * Stops the tick scheduler from updating this machine until wakeUp() is called or the given number of ticks have passed.
+	 * Only sleep when updateServer has nothing to do, nothing else will run in the meantime.
+	 * @param state The reason for sleeping. Whoever can end that condition is responsible for calling wakeUp(state).
+	 * @param maxTicks Number of ticks after which the machine wakes up by itself.
+	 */
+	protected final void sleep(SleepState state, int maxTicks) {
+		sleepState = state;
+		wakeUpTick = worldObj.getTotalWorldTime() + maxTicks;
+	}
+
+	/**
+	 * Resumes updating this machine if it was sleeping, whatever it was waiting for.
+	 */
+	public final void wakeUp() {
+		sleepState = SleepState.Awake;
+	}
+
+	/**
+	 * Resumes updating this machine if it was sleeping for the given reason.
+	 * Call this when something happens that a sleeping machine may be waiting for, like an inventory change or incoming power.
+	 */
+	public final void wakeUp(SleepState reason) {
+		if (sleepState == reason) {
+			sleepState = SleepState.Awake;
+		}
+	}
+
+	protected final boolean isAwake() {
+		return sleepState == SleepState.Awake;
+	}
+
+	/**
+	 * @return true if the tick scheduler should skip this machine on the given world tick.
+	 */
+	public final boolean isSleeping(long worldTime) {
+		if (sleepState == SleepState.Awake) {
+			return false;
+		}
+		if (worldTime >= wakeUpTick) {
+			sleepState = SleepState.Awake;
+			return false;
+		}
+		return true;
+	}
+
 	/**
 	 * Driver for the update loop. If the machine is assembled, runs
 	 * the game logic update method.
@@ -594,11 +733,11 @@ public abstract class MultiblockControllerBase implements ISidedInventory, IRest
 	 * @param x X coordinate of the block being tested
 	 * @param y Y coordinate of the block being tested
 	 * @param z Z coordinate of the block being tested
-	 * @throws MultiblockValidationException if the tested block is not allowed on the machine's side faces
+	 * @return null if the tested block is allowed on the machine's side faces, otherwise the reason why it is not
 	 */
-	protected void isBlockGoodForExteriorLevel(int level, World world, int x, int y, int z) throws MultiblockValidationException {
+	protected MultiblockValidationError isBlockGoodForExteriorLevel(int level, World world, int x, int y, int z) {
 		Block block = world.getBlock(x, y, z);
-		throw new MultiblockValidationException(StringUtil.localizeAndFormatRaw("for.multiblock.error.invalid.interior", x, y, z, block.getLocalizedName()));
+		return new MultiblockValidationError("for.multiblock.error.invalid.interior", x, y, z, block);
 	}
 	
 	/**
@@ -607,11 +746,11 @@ public abstract class MultiblockControllerBase implements ISidedInventory, IRest
 	 * @param x X coordinate of the block being tested
 	 * @param y Y coordinate of the block being tested
 	 * @param z Z coordinate of the block being tested
-	 * @throws MultiblockValidationException if the tested block is not allowed in the machine's interior
+	 * @return null if the tested block is allowed in the machine's interior, otherwise the reason why it is not
 	 */
-	protected void isBlockGoodForInterior(World world, int x, int y, int z) throws MultiblockValidationException {
+	protected MultiblockValidationError isBlockGoodForInterior(World world, int x, int y, int z) {
 		Block block = world.getBlock(x, y, z);
-		throw new MultiblockValidationException(StringUtil.localizeAndFormatRaw("for.multiblock.error.invalid.interior", x, y, z, block.getLocalizedName()));
+		return new MultiblockValidationError("for.multiblock.error.invalid.interior", x, y, z, block);
 	}
 	
 	/**
@@ -814,6 +953,7 @@ public abstract class MultiblockControllerBase implements ISidedInventory, IRest
 		}
 		
 		connectedParts.removeAll(deadParts);
+		partsModificationCount++;
 		Log.warning("[%s] Controller found %d dead parts during an audit, %d parts remain attached", worldObj.isRemote ? "CLIENT" : "SERVER", deadParts.size(), connectedParts.size());
 	}
 
@@ -872,6 +1012,7 @@ public abstract class MultiblockControllerBase implements ISidedInventory, IRest
 		}
 		
 		connectedParts.removeAll(deadParts);
+		partsModificationCount++;
 		deadParts.clear();
 		
 		if (referencePart == null || isEmpty()) {
@@ -922,6 +1063,7 @@ public abstract class MultiblockControllerBase implements ISidedInventory, IRest
 
 		// Trim any blocks that were invalid, or were removed.
 		connectedParts.removeAll(deadParts);
+		partsModificationCount++;
 		
 		// Cleanup. Not necessary, really.
 		deadParts.clear();
@@ -956,6 +1098,7 @@ public abstract class MultiblockControllerBase implements ISidedInventory, IRest
 
 		Set<IMultiblockPart> detachedParts = connectedParts;
 		connectedParts = new HashSet<>();
+		partsModificationCount++;
 		return detachedParts;
 	}
 
@@ -0,0 +1,84 @@
+package forestry.core.multiblock;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import net.minecraft.world.World;
+
+/**
+ * Decides which multiblock controllers of a world are updated each tick.
+ *
+ * Sleeping controllers are skipped until they are woken up or their wake-up tick is reached.
+ * If a time budget is set, controllers which did not fit into this tick's budget
+ * are deferred and run first on the next tick, so every controller gets its turn.
+ */
+public class MultiblockTickScheduler {
+
+	private final World worldObj;
+
+	/** Time budget for all controllers of this world per tick in nanoseconds, 0 for no limit. */
+	private final long tickBudgetNanos;
+
+	// Controllers which did not fit into the budget of the previous tick, in the order they should run
+	private Set<MultiblockControllerBase> deferredControllers = new LinkedHashSet<>();
+
+	public MultiblockTickScheduler(World world, int tickBudgetMicros) {
+		this.worldObj = world;
+		this.tickBudgetNanos = Math.max(0, tickBudgetMicros) * 1000L;
+	}
+
+	/**
+	 * Updates the awake controllers out of the given set, deferring any that exceed the time budget.
+	 * @param controllers All active controllers of this world.
+	 */
+	public void tick(Set<MultiblockControllerBase> controllers) {
+		long worldTime = worldObj.getTotalWorldTime();
+		long deadline = tickBudgetNanos > 0 ? System.nanoTime() + tickBudgetNanos : 0;
+
+		List<MultiblockControllerBase> toRun = new ArrayList<>(controllers.size());
+		for (MultiblockControllerBase controller : deferredControllers) {
+			if (controllers.contains(controller)) {
+				toRun.add(controller);
+			}
+		}
+		for (MultiblockControllerBase controller : controllers) {
+			if (!deferredControllers.contains(controller)) {
+				toRun.add(controller);
+			}
+		}
+
+		Set<MultiblockControllerBase> nowDeferred = new LinkedHashSet<>();
+		for (MultiblockControllerBase controller : toRun) {
+			if (controller.worldObj != worldObj || controller.worldObj.isRemote != worldObj.isRemote) {
+				continue;
+			}
+
+			if (controller.isEmpty()) {
+				// This happens on the server when the user breaks the last block. It's fine.
+				// Mark 'er dead and move on.
+				MultiblockRegistry.addDeadController(worldObj, controller);
+				continue;
+			}
+
+			if (controller.isSleeping(worldTime)) {
+				continue;
+			}
+
+			if (deadline != 0 && System.nanoTime() > deadline) {
+				nowDeferred.add(controller);
+				continue;
+			}
+
+			// Run the game logic for this world
+			controller.updateMultiblockEntity();
+		}
+
+		deferredControllers = nowDeferred;
+	}
+
+	public void clear() {
+		deferredControllers.clear();
+	}
+}
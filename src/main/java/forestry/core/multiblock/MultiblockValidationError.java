@@ -0,0 +1,42 @@
+package forestry.core.multiblock;
+
+import net.minecraft.block.Block;
+
+import forestry.core.utils.StringUtil;
+
+/**
+ * Describes why a multiblock could not assemble.
+ * Holds only a translation key and its arguments, the message is localized when it is actually displayed.
+ */
+public class MultiblockValidationError {
+
+	private final String key;
+	private final Object[] args;
+
+	public MultiblockValidationError(String key, Object... args) {
+		this.key = key;
+		this.args = args;
+	}
+
+	public String getKey() {
+		return key;
+	}
+
+	public String getLocalizedMessage() {
+		Object[] formatArgs = new Object[args.length];
+		for (int i = 0; i < args.length; i++) {
+			Object arg = args[i];
+			if (arg instanceof Block) {
+				formatArgs[i] = ((Block) arg).getLocalizedName();
+			} else {
+				formatArgs[i] = arg;
+			}
+		}
+		return StringUtil.localizeAndFormatRaw(key, formatArgs);
+	}
+
+	@Override
+	public String toString() {
+		return getLocalizedMessage();
+	}
+}
@@ -12,6 +12,7 @@ import net.minecraft.world.ChunkCoordIntPair;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.IChunkProvider;
 
+import forestry.core.config.Config;
 import forestry.core.utils.Log;
 
 /**
@@ -29,6 +30,8 @@ public class MultiblockWorldRegistry {
 	private final Set<MultiblockControllerBase> dirtyControllers;    // Controllers whose parts lists have changed
 	private final Set<MultiblockControllerBase> deadControllers;    // Controllers which are empty
 
+	private final MultiblockTickScheduler tickScheduler;
+
 	// A list of orphan parts - parts which currently have no master, but should seek one this tick
 	// Indexed by the hashed chunk coordinate
 	// This can be added-to asynchronously via chunk loads!
@@ -53,6 +56,8 @@ public class MultiblockWorldRegistry {
 		controllers = new HashSet<>();
 		deadControllers = new HashSet<>();
 		dirtyControllers = new HashSet<>();
+
+		tickScheduler = new MultiblockTickScheduler(world, Config.multiblockTickBudget);
 		
 		detachedParts = new HashSet<>();
 		orphanedParts = new HashSet<>();
@@ -67,18 +72,7 @@ public class MultiblockWorldRegistry {
 	 */
 	public void tickStart() {
 		if (controllers.size() > 0) {
-			for (MultiblockControllerBase controller : controllers) {
-				if (controller.worldObj == worldObj && controller.worldObj.isRemote == worldObj.isRemote) {
-					if (controller.isEmpty()) {
-						// This happens on the server when the user breaks the last block. It's fine.
-						// Mark 'er dead and move on.
-						deadControllers.add(controller);
-					} else {
-						// Run the game logic for this world
-						controller.updateMultiblockEntity();
-					}
-				}
-			}
+			tickScheduler.tick(controllers);
 		}
 	}
 	
@@ -331,6 +325,7 @@ public class MultiblockWorldRegistry {
 		controllers.clear();
 		deadControllers.clear();
 		dirtyControllers.clear();
+		tickScheduler.clear();
 		
 		detachedParts.clear();
 		
@@ -1,12 +1,11 @@
 package forestry.core.multiblock.rectangular;
 
 import net.minecraft.tileentity.TileEntity;
-import net.minecraft.util.StatCollector;
 import net.minecraft.world.World;
 
 import forestry.core.multiblock.CoordTriplet;
 import forestry.core.multiblock.MultiblockControllerBase;
-import forestry.core.multiblock.MultiblockValidationException;
+import forestry.core.multiblock.MultiblockValidationError;
 
 public abstract class RectangularMultiblockControllerBase extends MultiblockControllerBase {
 
@@ -15,13 +14,13 @@ public abstract class RectangularMultiblockControllerBase extends MultiblockCont
 	}
 
 	@Override
-	protected void isMachineWhole() throws MultiblockValidationException {
+	protected MultiblockValidationError isMachineWhole() {
 		int minX = getMinimumXSize();
 		int minY = getMinimumYSize();
 		int minZ = getMinimumZSize();
 
 		if (connectedParts.size() < getMinimumNumberOfBlocksForAssembledMachine()) {
-			throw new MultiblockValidationException(StatCollector.translateToLocalFormatted("for.multiblock.error.small", minX, minY, minZ));
+			return new MultiblockValidationError("for.multiblock.error.small", minX, minY, minZ);
 		}
 		
 		CoordTriplet maximumCoord = getMaximumCoord();
@@ -37,28 +36,29 @@ public abstract class RectangularMultiblockControllerBase extends MultiblockCont
 		int maxZ = getMaximumZSize();
 
 		if (maxX > 0 && deltaX > maxX) {
-			throw new MultiblockValidationException(StatCollector.translateToLocalFormatted("for.multiblock.error.large.x", maxX));
+			return new MultiblockValidationError("for.multiblock.error.large.x", maxX);
 		}
 		if (maxY > 0 && deltaY > maxY) {
-			throw new MultiblockValidationException(StatCollector.translateToLocalFormatted("for.multiblock.error.large.y", maxY));
+			return new MultiblockValidationError("for.multiblock.error.large.y", maxY);
 		}
 		if (maxZ > 0 && deltaZ > maxZ) {
-			throw new MultiblockValidationException(StatCollector.translateToLocalFormatted("for.multiblock.error.large.z", maxZ));
+			return new MultiblockValidationError("for.multiblock.error.large.z", maxZ);
 		}
 		if (deltaX < minX) {
-			throw new MultiblockValidationException(StatCollector.translateToLocalFormatted("for.multiblock.error.small.x", minX));
+			return new MultiblockValidationError("for.multiblock.error.small.x", minX);
 		}
 		if (deltaY < minY) {
-			throw new MultiblockValidationException(StatCollector.translateToLocalFormatted("for.multiblock.error.small.y", minY));
+			return new MultiblockValidationError("for.multiblock.error.small.y", minY);
 		}
 		if (deltaZ < minZ) {
-			throw new MultiblockValidationException(StatCollector.translateToLocalFormatted("for.multiblock.error.small.z", minZ));
+			return new MultiblockValidationError("for.multiblock.error.small.z", minZ);
 		}
 
 		// Now we run a simple check on each block within that volume.
 		// Any block deviating = NO DEAL SIR
 		TileEntity te;
 		RectangularMultiblockTileEntityBase part;
+		MultiblockValidationError error;
 		Class<? extends RectangularMultiblockControllerBase> myClass = this.getClass();
 
 		for (int x = minimumCoord.x; x <= maximumCoord.x; x++) {
@@ -72,7 +72,7 @@ public abstract class RectangularMultiblockControllerBase extends MultiblockCont
 						
 						// Ensure this part should actually be allowed within a cube of this controller's type
 						if (!myClass.equals(part.getMultiblockControllerType())) {
-							throw new MultiblockValidationException(StatCollector.translateToLocalFormatted("for.multiblock.error.invalid.part", x, y, z, myClass.getSimpleName()));
+							return new MultiblockValidationError("for.multiblock.error.invalid.part", x, y, z, myClass.getSimpleName());
 						}
 					} else {
 						// This is permitted so that we can incorporate certain non-multiblock parts inside interiors
@@ -105,20 +105,26 @@ public abstract class RectangularMultiblockControllerBase extends MultiblockCont
 						// Side
 						int exteriorLevel = y - minimumCoord.y;
 						if (part != null) {
-							part.isGoodForExteriorLevel(exteriorLevel);
+							error = part.isGoodForExteriorLevel(exteriorLevel);
 						} else {
-							isBlockGoodForExteriorLevel(exteriorLevel, this.worldObj, x, y, z);
+							error = isBlockGoodForExteriorLevel(exteriorLevel, this.worldObj, x, y, z);
 						}
 					} else {
 						if (part != null) {
-							part.isGoodForInterior();
+							error = part.isGoodForInterior();
 						} else {
-							isBlockGoodForInterior(this.worldObj, x, y, z);
+							error = isBlockGoodForInterior(this.worldObj, x, y, z);
 						}
 					}
+
+					if (error != null) {
+						return error;
+					}
 				}
 			}
 		}
+
+		return null;
 	}
 	
 }
@@ -5,7 +5,7 @@ import net.minecraftforge.common.util.ForgeDirection;
 import forestry.core.multiblock.CoordTriplet;
 import forestry.core.multiblock.MultiblockControllerBase;
 import forestry.core.multiblock.MultiblockTileEntityBase;
-import forestry.core.multiblock.MultiblockValidationException;
+import forestry.core.multiblock.MultiblockValidationError;
 
 public abstract class RectangularMultiblockTileEntityBase extends MultiblockTileEntityBase {
 
@@ -99,7 +99,13 @@ public abstract class RectangularMultiblockTileEntityBase extends MultiblockTile
 	
 	///// Validation Helpers (IMultiblockPart)
 
-	public abstract void isGoodForExteriorLevel(int level) throws MultiblockValidationException;
+	/**
+	 * @return null if this part may sit on the given level of the machine's side faces, otherwise the reason why it may not.
+	 */
+	public abstract MultiblockValidationError isGoodForExteriorLevel(int level);
 
-	public abstract void isGoodForInterior() throws MultiblockValidationException;
+	/**
+	 * @return null if this part may sit in the machine's interior, otherwise the reason why it may not.
+	 */
+	public abstract MultiblockValidationError isGoodForInterior();
 }
@@ -31,6 +31,13 @@ public class ForestryPacket implements IForestryPacket {
 	}
 
 	public final FMLProxyPacket getPacket() {
+		return new FMLProxyPacket(Unpooled.wrappedBuffer(getPacketData()), channel);
+	}
+
+	/**
+	 * @return the encoded packet id and data, as sent in the payload of {@link #getPacket()}.
+	 */
+	final byte[] getPacketData() {
 		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
 		DataOutputStreamForestry data = new DataOutputStreamForestry(bytes);
 
@@ -41,7 +48,11 @@ public class ForestryPacket implements IForestryPacket {
 			e.printStackTrace();
 		}
 
-		return new FMLProxyPacket(Unpooled.wrappedBuffer(bytes.toByteArray()), channel);
+		return bytes.toByteArray();
+	}
+
+	final IPacketId getPacketId() {
+		return id;
 	}
 
 	protected void writeData(DataOutputStreamForestry data) throws IOException {
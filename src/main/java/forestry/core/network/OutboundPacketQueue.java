@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.network;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+
+import net.minecraftforge.common.util.FakePlayer;
+
+import cpw.mods.fml.common.network.internal.FMLProxyPacket;
+
+import forestry.Forestry;
+import forestry.core.proxy.Proxies;
+
+import io.netty.buffer.Unpooled;
+
+/**
+ * Collects located client packets for one world during a tick and sends them at the end of it.
+ * A packet replaces any packet queued earlier in the same tick with the same id, coordinates and recipient,
+ * so only the latest update for a tile goes out. Everything a player receives in one tick is sent as a single {@link PacketBatch}.
+ *
+ * Queued packets reach the client after any packet sent directly during the same tick, even one sent later in the tick.
+ * Only queue packets that carry the full state they update and don't depend on the order of other packets.
+ */
+public class OutboundPacketQueue {
+
+	/** Encoded size of a batch including its framing, kept well below the vanilla custom payload limit of 32767 bytes. */
+	private static final int MAX_BATCH_SIZE = 30000;
+	/** Packet id byte and the varint entry count of a {@link PacketBatch}. */
+	private static final int BATCH_HEADER_SIZE = 1 + 5;
+
+	private static final Map<World, OutboundPacketQueue> queues = new WeakHashMap<>();
+
+	private final Map<PacketKey, PacketCoordinates> packets = new LinkedHashMap<>();
+
+	public static OutboundPacketQueue getQueue(World world) {
+		OutboundPacketQueue queue = queues.get(world);
+		if (queue == null) {
+			queue = new OutboundPacketQueue();
+			queues.put(world, queue);
+		}
+		return queue;
+	}
+
+	public static void flush(World world) {
+		OutboundPacketQueue queue = queues.get(world);
+		if (queue != null && world instanceof WorldServer) {
+			queue.flush((WorldServer) world);
+		}
+	}
+
+	/**
+	 * Queues a packet for every player watching the packet's chunk.
+	 */
+	public <P extends PacketCoordinates & IForestryPacketClient> void queue(P packet) {
+		queue(packet, null);
+	}
+
+	/**
+	 * Queues a packet for a single player.
+	 */
+	public <P extends PacketCoordinates & IForestryPacketClient> void queue(P packet, EntityPlayerMP player) {
+		PacketKey key = new PacketKey(packet, player);
+		// remove first so the latest packet also takes the latest position
+		packets.remove(key);
+		packets.put(key, packet);
+	}
+
+	private void flush(WorldServer world) {
+		if (packets.isEmpty()) {
+			return;
+		}
+
+		Map<EntityPlayerMP, List<byte[]>> playerPackets = new LinkedHashMap<>();
+
+		for (Map.Entry<PacketKey, PacketCoordinates> entry : packets.entrySet()) {
+			PacketCoordinates packet = entry.getValue();
+			EntityPlayerMP player = entry.getKey().player;
+
+			List<EntityPlayerMP> recipients;
+			if (player != null) {
+				recipients = Collections.singletonList(player);
+			} else {
+				recipients = Proxies.net.getPlayersWatchingChunk(world, packet.getPosX() >> 4, packet.getPosZ() >> 4);
+			}
+
+			byte[] packetData = null;
+			for (EntityPlayerMP recipient : recipients) {
+				if (recipient instanceof FakePlayer) {
+					continue;
+				}
+
+				if (packetData == null) {
+					packetData = packet.getPacketData();
+				}
+
+				List<byte[]> recipientPackets = playerPackets.get(recipient);
+				if (recipientPackets == null) {
+					recipientPackets = new ArrayList<>();
+					playerPackets.put(recipient, recipientPackets);
+				}
+				recipientPackets.add(packetData);
+			}
+		}
+
+		packets.clear();
+
+		for (Map.Entry<EntityPlayerMP, List<byte[]>> entry : playerPackets.entrySet()) {
+			sendBatched(entry.getValue(), entry.getKey());
+		}
+	}
+
+	private static void sendBatched(List<byte[]> packetData, EntityPlayerMP player) {
+		List<byte[]> batch = new ArrayList<>();
+		int batchSize = BATCH_HEADER_SIZE;
+
+		for (byte[] data : packetData) {
+			int entrySize = getVarIntSize(data.length) + data.length;
+			if (!batch.isEmpty() && batchSize + entrySize > MAX_BATCH_SIZE) {
+				sendBatch(batch, player);
+				batch = new ArrayList<>();
+				batchSize = BATCH_HEADER_SIZE;
+			}
+			batch.add(data);
+			batchSize += entrySize;
+		}
+
+		if (!batch.isEmpty()) {
+			sendBatch(batch, player);
+		}
+	}
+
+	private static int getVarIntSize(int value) {
+		int size = 1;
+		while ((value & ~0x7F) != 0) {
+			value >>>= 7;
+			size++;
+		}
+		return size;
+	}
+
+	private static void sendBatch(List<byte[]> batch, EntityPlayerMP player) {
+		if (batch.size() == 1) {
+			FMLProxyPacket packet = new FMLProxyPacket(Unpooled.wrappedBuffer(batch.get(0)), ForestryPacket.channel);
+			Forestry.packetHandler.sendPacket(packet, player);
+		} else {
+			Forestry.packetHandler.sendPacket(new PacketBatch(batch).getPacket(), player);
+		}
+	}
+
+	private static final class PacketKey {
+		private final IPacketId packetId;
+		private final int posX;
+		private final int posY;
+		private final int posZ;
+		private final EntityPlayerMP player;
+
+		public PacketKey(PacketCoordinates packet, EntityPlayerMP player) {
+			this.packetId = packet.getPacketId();
+			this.posX = packet.getPosX();
+			this.posY = packet.getPosY();
+			this.posZ = packet.getPosZ();
+			this.player = player;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof PacketKey)) {
+				return false;
+			}
+			PacketKey other = (PacketKey) obj;
+			return packetId == other.packetId && posX == other.posX && posY == other.posY && posZ == other.posZ && player == other.player;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = packetId.hashCode();
+			result = 31 * result + posX;
+			result = 31 * result + posY;
+			result = 31 * result + posZ;
+			result = 31 * result + (player != null ? player.hashCode() : 0);
+			return result;
+		}
+	}
+}
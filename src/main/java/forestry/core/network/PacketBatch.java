@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.network;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Carries several encoded client packets in one payload.
+ * Unpacked by {@link PacketHandler} on the client.
+ */
+public class PacketBatch extends ForestryPacket {
+
+	private final List<byte[]> packets;
+
+	public PacketBatch(List<byte[]> packets) {
+		super(PacketIdClient.PACKET_BATCH);
+		this.packets = packets;
+	}
+
+	@Override
+	protected void writeData(DataOutputStreamForestry data) throws IOException {
+		data.writeVarInt(packets.size());
+		for (byte[] packet : packets) {
+			data.writeVarInt(packet.length);
+			data.write(packet);
+		}
+	}
+}
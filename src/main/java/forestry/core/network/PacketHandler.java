@@ -10,6 +10,8 @@
  ******************************************************************************/
 package forestry.core.network;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 
 import net.minecraft.entity.player.EntityPlayer;
@@ -59,14 +61,39 @@ public class PacketHandler {
 		try {
 			byte packetIdOrdinal = data.readByte();
 			PacketIdClient packetId = PacketIdClient.VALUES[packetIdOrdinal];
-			IForestryPacketClient packetHandler = packetId.getPacketHandler();
-			packetHandler.readData(data);
-			packetHandler.onPacketData(data, player);
+			if (packetId == PacketIdClient.PACKET_BATCH) {
+				onPacketBatch(data, player);
+			} else {
+				onClientPacket(packetId, data, player);
+			}
 		} catch (Exception ex) {
 			ex.printStackTrace();
 		}
 	}
 
+	private static void onPacketBatch(DataInputStreamForestry data, EntityPlayer player) throws IOException {
+		int packetCount = data.readVarInt();
+		for (int i = 0; i < packetCount; i++) {
+			byte[] packetData = new byte[data.readVarInt()];
+			data.readFully(packetData);
+
+			// each packet gets its own stream, so one that fails or under-reads can't corrupt the rest
+			DataInputStreamForestry packetStream = new DataInputStreamForestry(new ByteArrayInputStream(packetData));
+			try {
+				PacketIdClient packetId = PacketIdClient.VALUES[packetStream.readByte()];
+				onClientPacket(packetId, packetStream, player);
+			} catch (Exception ex) {
+				ex.printStackTrace();
+			}
+		}
+	}
+
+	private static void onClientPacket(PacketIdClient packetId, DataInputStreamForestry data, EntityPlayer player) throws IOException {
+		IForestryPacketClient packetHandler = packetId.getPacketHandler();
+		packetHandler.readData(data);
+		packetHandler.onPacketData(data, player);
+	}
+
 	private static DataInputStreamForestry getStream(FMLProxyPacket fmlPacket) {
 		InputStream is = new ByteBufInputStream(fmlPacket.payload());
 		return new DataInputStreamForestry(is);
@@ -14,6 +14,7 @@ import javax.annotation.Nonnull;
 
 public enum PacketIdClient implements IPacketId {
 	INVALID,
+	PACKET_BATCH,
 
 	// Core Gui
 	ERROR_UPDATE(new PacketErrorUpdate()),
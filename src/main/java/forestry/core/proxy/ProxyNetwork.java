@@ -10,18 +10,31 @@
  ******************************************************************************/
 package forestry.core.proxy;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.server.management.PlayerManager;
+import net.minecraft.world.ChunkCoordIntPair;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 
 import net.minecraftforge.common.util.FakePlayer;
 
+import cpw.mods.fml.common.network.internal.FMLProxyPacket;
+import cpw.mods.fml.relauncher.ReflectionHelper;
+
 import forestry.Forestry;
 import forestry.core.network.IForestryPacketClient;
 import forestry.core.network.IForestryPacketServer;
 import forestry.core.network.ILocatedPacket;
+import forestry.core.network.OutboundPacketQueue;
+import forestry.core.network.PacketCoordinates;
+import forestry.core.utils.Log;
 
 public class ProxyNetwork {
 
@@ -31,20 +44,96 @@ public class ProxyNetwork {
 		}
 
 		WorldServer worldServer = (WorldServer) world;
-		PlayerManager playerManager = worldServer.getPlayerManager();
 
 		int chunkX = packet.getPosX() >> 4;
 		int chunkZ = packet.getPosZ() >> 4;
 
+		List<EntityPlayerMP> watchingPlayers = getPlayersWatchingChunk(worldServer, chunkX, chunkZ);
+		if (watchingPlayers.isEmpty()) {
+			return;
+		}
+
+		// Encode once, every recipient gets its own view of the same payload.
+		FMLProxyPacket fmlPacket = packet.getPacket();
+		for (EntityPlayerMP player : watchingPlayers) {
+			if (!(player instanceof FakePlayer)) {
+				FMLProxyPacket playerPacket = new FMLProxyPacket(fmlPacket.payload().duplicate(), fmlPacket.channel());
+				Forestry.packetHandler.sendPacket(playerPacket, player);
+			}
+		}
+	}
+
+	/**
+	 * Queues a packet for the players watching its chunk, to be sent at the end of the world tick.
+	 * Only the latest packet with the same id and coordinates queued during the tick is sent.
+	 * It arrives after every packet sent directly during the same tick.
+	 */
+	public <P extends PacketCoordinates & IForestryPacketClient> void queueNetworkPacket(P packet, World world) {
+		if (packet == null || !(world instanceof WorldServer)) {
+			return;
+		}
+
+		OutboundPacketQueue.getQueue(world).queue(packet);
+	}
+
+	public <P extends PacketCoordinates & IForestryPacketClient> void queueToPlayer(P packet, EntityPlayer entityplayer) {
+		if (!(entityplayer instanceof EntityPlayerMP) || (entityplayer instanceof FakePlayer)) {
+			return;
+		}
+
+		OutboundPacketQueue.getQueue(entityplayer.worldObj).queue(packet, (EntityPlayerMP) entityplayer);
+	}
+
+	/* CHUNK WATCHERS */
+	private static boolean chunkWatcherReflectionFailed = false;
+	private static Method getChunkWatcher;
+	private static Field playersWatchingChunk;
+
+	@SuppressWarnings("unchecked")
+	public List<EntityPlayerMP> getPlayersWatchingChunk(WorldServer world, int chunkX, int chunkZ) {
+		PlayerManager playerManager = world.getPlayerManager();
+
+		if (!chunkWatcherReflectionFailed) {
+			try {
+				if (getChunkWatcher == null) {
+					getChunkWatcher = ReflectionHelper.findMethod(PlayerManager.class, playerManager, new String[]{"func_72690_a", "getOrCreateChunkWatcher"}, int.class, int.class, boolean.class);
+				}
+
+				Object chunkWatcher = getChunkWatcher.invoke(playerManager, chunkX, chunkZ, false);
+				if (chunkWatcher == null) {
+					return Collections.emptyList();
+				}
+
+				if (playersWatchingChunk == null) {
+					playersWatchingChunk = ReflectionHelper.findField(chunkWatcher.getClass(), "field_73263_b", "playersWatchingChunk");
+				}
+
+				// like PlayerManager.isPlayerWatchingChunk, skip players who have not been sent the chunk yet
+				ChunkCoordIntPair chunkLocation = new ChunkCoordIntPair(chunkX, chunkZ);
+				List<EntityPlayerMP> watchingPlayers = new ArrayList<>();
+				for (EntityPlayerMP player : (List<EntityPlayerMP>) playersWatchingChunk.get(chunkWatcher)) {
+					if (!player.loadedChunks.contains(chunkLocation)) {
+						watchingPlayers.add(player);
+					}
+				}
+				return watchingPlayers;
+			} catch (Exception e) {
+				chunkWatcherReflectionFailed = true;
+				Log.warning("Could not access chunk watchers, falling back to checking every player in the world.");
+			}
+		}
+
+		List<EntityPlayerMP> watchingPlayers = new ArrayList<>();
 		for (Object playerObj : world.playerEntities) {
 			if (playerObj instanceof EntityPlayerMP) {
 				EntityPlayerMP player = (EntityPlayerMP) playerObj;
 
 				if (playerManager.isPlayerWatchingChunk(player, chunkX, chunkZ)) {
-					sendToPlayer(packet, player);
+					watchingPlayers.add(player);
 				}
 			}
 		}
+		return watchingPlayers;
 	}
 
 	public void sendToPlayer(IForestryPacketClient packet, EntityPlayer entityplayer) {
@@ -156,7 +156,7 @@ public abstract class TileForestry extends TileEntity implements IStreamable, IE
 	/* INetworkedEntity */
 	protected final void sendNetworkUpdate() {
 		PacketTileStream packet = new PacketTileStream(this);
-		Proxies.net.sendNetworkPacket(packet, worldObj);
+		Proxies.net.queueNetworkPacket(packet, worldObj);
 	}
 
 	@Override
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.utils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import net.minecraft.world.biome.BiomeGenBase;
+
+import com.google.common.collect.ImmutableList;
+
+import forestry.api.core.EnumHumidity;
+import forestry.api.core.EnumTemperature;
+import forestry.api.genetics.AlleleManager;
+import forestry.api.genetics.EnumTolerance;
+
+/**
+ * Climate of every registered biome, computed once, and the biomes suitable for
+ * each combination of preferred climate and tolerances, computed on first request.
+ */
+public class BiomeClimateCache {
+
+	private static BiomeGenBase[] biomes;
+	private static EnumTemperature[] biomeTemperatures;
+	private static EnumHumidity[] biomeHumidities;
+
+	private static final ConcurrentMap<Integer, ImmutableList<BiomeGenBase>> suitableBiomes = new ConcurrentHashMap<>();
+
+	private static synchronized void buildClimateTable() {
+		if (biomes != null) {
+			return;
+		}
+
+		BiomeGenBase[] biomeArray = BiomeGenBase.getBiomeGenArray();
+		EnumTemperature[] temperatures = new EnumTemperature[biomeArray.length];
+		EnumHumidity[] humidities = new EnumHumidity[biomeArray.length];
+
+		for (int i = 0; i < biomeArray.length; i++) {
+			BiomeGenBase biome = biomeArray[i];
+			if (biome != null) {
+				temperatures[i] = EnumTemperature.getFromBiome(biome);
+				humidities[i] = EnumHumidity.getFromValue(biome.rainfall);
+			}
+		}
+
+		biomeTemperatures = temperatures;
+		biomeHumidities = humidities;
+		biomes = biomeArray.clone();
+	}
+
+	public static ImmutableList<BiomeGenBase> getSuitableBiomes(EnumTemperature temperature, EnumTolerance temperatureTolerance, EnumHumidity humidity, EnumTolerance humidityTolerance) {
+		int key = ((temperature.ordinal() * EnumTolerance.values().length + temperatureTolerance.ordinal()) * EnumHumidity.values().length + humidity.ordinal()) * EnumTolerance.values().length + humidityTolerance.ordinal();
+
+		ImmutableList<BiomeGenBase> suitable = suitableBiomes.get(key);
+		if (suitable == null) {
+			suitable = findSuitableBiomes(temperature, temperatureTolerance, humidity, humidityTolerance);
+			suitableBiomes.put(key, suitable);
+		}
+		return suitable;
+	}
+
+	private static ImmutableList<BiomeGenBase> findSuitableBiomes(EnumTemperature temperature, EnumTolerance temperatureTolerance, EnumHumidity humidity, EnumTolerance humidityTolerance) {
+		buildClimateTable();
+
+		ImmutableList.Builder<BiomeGenBase> suitable = ImmutableList.builder();
+		for (int i = 0; i < biomes.length; i++) {
+			BiomeGenBase biome = biomes[i];
+			if (biome != null && AlleleManager.climateHelper.isWithinLimits(biomeTemperatures[i], biomeHumidities[i], temperature, temperatureTolerance, humidity, humidityTolerance)) {
+				suitable.add(biome);
+			}
+		}
+		return suitable.build();
+	}
+}
@@ -20,25 +20,59 @@ import forestry.api.genetics.IClimateHelper;
 
 public class ClimateUtil implements IClimateHelper {
 
+	private static final EnumTemperature[] temperatures = EnumTemperature.values();
+	private static final EnumHumidity[] humidities = EnumHumidity.values();
+	private static final EnumTolerance[] tolerances = EnumTolerance.values();
+
+	/**
+	 * Bitmasks of tolerated ordinals, indexed by [preferred.ordinal()][tolerance.ordinal()].
+	 */
+	private static final int[][] toleratedTemperatureMasks = new int[temperatures.length][tolerances.length];
+	private static final int[][] toleratedHumidityMasks = new int[humidities.length][tolerances.length];
+
+	static {
+		for (EnumTolerance tolerance : tolerances) {
+			for (EnumTemperature prefered : temperatures) {
+				int mask = 0;
+				for (EnumTemperature tolerated : createToleratedTemperature(prefered, tolerance)) {
+					mask |= 1 << tolerated.ordinal();
+				}
+				toleratedTemperatureMasks[prefered.ordinal()][tolerance.ordinal()] = mask;
+			}
+
+			for (EnumHumidity prefered : humidities) {
+				int mask = 0;
+				for (EnumHumidity tolerated : createToleratedHumidity(prefered, tolerance)) {
+					mask |= 1 << tolerated.ordinal();
+				}
+				toleratedHumidityMasks[prefered.ordinal()][tolerance.ordinal()] = mask;
+			}
+		}
+	}
+
 	public boolean isWithinLimits(EnumTemperature temperature, EnumHumidity humidity,
 			EnumTemperature baseTemp, EnumTolerance tolTemp,
 			EnumHumidity baseHumid, EnumTolerance tolHumid) {
-		if (!getToleratedTemperature(baseTemp, tolTemp).contains(temperature)) {
-			return false;
-		}
-		
-		return getToleratedHumidity(baseHumid, tolHumid).contains(humidity);
+		return isWithinLimits(temperature, baseTemp, tolTemp) && isWithinLimits(humidity, baseHumid, tolHumid);
 	}
 
 	public boolean isWithinLimits(EnumTemperature temperature, EnumTemperature baseTemp, EnumTolerance tolTemp) {
-		return getToleratedTemperature(baseTemp, tolTemp).contains(temperature);
+		return (toleratedTemperatureMasks[baseTemp.ordinal()][tolTemp.ordinal()] & (1 << temperature.ordinal())) != 0;
 	}
 
 	public boolean isWithinLimits(EnumHumidity humidity, EnumHumidity baseHumid, EnumTolerance tolHumid) {
-		return getToleratedHumidity(baseHumid, tolHumid).contains(humidity);
+		return (toleratedHumidityMasks[baseHumid.ordinal()][tolHumid.ordinal()] & (1 << humidity.ordinal())) != 0;
 	}
-	
+
 	public ArrayList<EnumHumidity> getToleratedHumidity(EnumHumidity prefered, EnumTolerance tolerance) {
+		return createToleratedHumidity(prefered, tolerance);
+	}
+
+	public ArrayList<EnumTemperature> getToleratedTemperature(EnumTemperature prefered, EnumTolerance tolerance) {
+		return createToleratedTemperature(prefered, tolerance);
+	}
+
+	private static ArrayList<EnumHumidity> createToleratedHumidity(EnumHumidity prefered, EnumTolerance tolerance) {
 
 		ArrayList<EnumHumidity> tolerated = new ArrayList<>();
 		tolerated.add(prefered);
@@ -96,7 +130,7 @@ public class ClimateUtil implements IClimateHelper {
 
 	}
 
-	public ArrayList<EnumTemperature> getToleratedTemperature(EnumTemperature prefered, EnumTolerance tolerance) {
+	private static ArrayList<EnumTemperature> createToleratedTemperature(EnumTemperature prefered, EnumTolerance tolerance) {
 
 		ArrayList<EnumTemperature> tolerated = new ArrayList<>();
 		tolerated.add(prefered);
@@ -10,6 +10,7 @@
  ******************************************************************************/
 package forestry.core.utils;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -44,23 +45,31 @@ import forestry.core.genetics.ItemGE;
 
 public class GeneticsUtil {
 
-	private static Set<Block> ersatzSpecimenBlocks;
+	private static final int BLOCK_META_COUNT = 16;
 
-	private static Set<Block> getErsatzBlocks() {
-		if (ersatzSpecimenBlocks == null) {
-			ersatzSpecimenBlocks = new HashSet<>();
+	/**
+	 * Pollen of every ersatz specimen block by meta, built on first use once all ersatz specimen are registered.
+	 * The trees are shared, so they must be copied before being changed or placed into the world.
+	 */
+	private static volatile Map<Block, ITree[]> ersatzPollen;
+
+	private static Map<Block, ITree[]> getErsatzPollenTable() {
+		Map<Block, ITree[]> table = ersatzPollen;
+		if (table == null) {
+			table = new HashMap<>();
 			for (ItemStack ersatzSpecimen : AlleleManager.ersatzSpecimen.keySet()) {
 				Block ersatzBlock = ItemStackUtil.getBlock(ersatzSpecimen);
-				if (ersatzBlock != null) {
-					ersatzSpecimenBlocks.add(ersatzBlock);
+				if (ersatzBlock != null && !table.containsKey(ersatzBlock)) {
+					ITree[] pollenByMeta = new ITree[BLOCK_META_COUNT];
+					for (int meta = 0; meta < BLOCK_META_COUNT; meta++) {
+						pollenByMeta[meta] = findErsatzPollen(ersatzBlock, meta);
+					}
+					table.put(ersatzBlock, pollenByMeta);
 				}
 			}
+			ersatzPollen = table;
 		}
-		return ersatzSpecimenBlocks;
-	}
-
-	private static boolean isErsatzBlock(Block block) {
-		return block != null && getErsatzBlocks().contains(block);
+		return table;
 	}
 
 	public static boolean hasNaturalistEye(EntityPlayer player) {
@@ -122,6 +131,7 @@ public class GeneticsUtil {
 		if (Config.pollinateVanillaTrees) {
 			ITree pollen = getErsatzPollen(world, x, y, z);
 			if (pollen != null) {
+				pollen = (ITree) pollen.copy();
 				pollen.setLeaves(world, owner, x, y, z);
 				return (IPollinatable) world.getTileEntity(x, y, z);
 			}
@@ -130,14 +140,28 @@ public class GeneticsUtil {
 		return null;
 	}
 
+	/**
+	 * @return the tree equivalent to the vanilla or foreign leaves at the given position. It is shared and must not be changed.
+	 */
 	public static ITree getErsatzPollen(World world, final int x, final int y, final int z) {
 		Block block = world.getBlock(x, y, z);
-		if (!isErsatzBlock(block)) {
+		if (block == null) {
+			return null;
+		}
+
+		ITree[] pollenByMeta = getErsatzPollenTable().get(block);
+		if (pollenByMeta == null) {
 			return null;
 		}
 
 		int meta = world.getBlockMetadata(x, y, z);
+		if (meta < 0 || meta >= BLOCK_META_COUNT) {
+			return null;
+		}
+		return pollenByMeta[meta];
+	}
 
+	private static ITree findErsatzPollen(Block block, int meta) {
 		if (Blocks.leaves == block || Blocks.leaves2 == block) {
 			if ((meta & 4) != 0) {
 				// no-decay vanilla leaves. http://minecraft.gamepedia.com/Data_values#Leaves
@@ -150,7 +174,7 @@ public class GeneticsUtil {
 			block = Blocks.sapling;
 		}
 		ItemStack itemStack = new ItemStack(block, 1, meta);
-		IIndividual tree = getGeneticEquivalent(itemStack);
+		IIndividual tree = findGeneticEquivalent(itemStack);
 		if (tree instanceof ITree) {
 			return (ITree) tree;
 		}
@@ -167,9 +191,17 @@ public class GeneticsUtil {
 			return ((ItemGE) item).getIndividual(itemStack);
 		}
 
+		IIndividual ersatz = findGeneticEquivalent(itemStack);
+		if (ersatz == null) {
+			return null;
+		}
+		return ersatz.copy();
+	}
+
+	private static IIndividual findGeneticEquivalent(ItemStack itemStack) {
 		for (Map.Entry<ItemStack, IIndividual> entry : AlleleManager.ersatzSaplings.entrySet()) {
 			if (ItemStackUtil.isIdenticalItem(itemStack, entry.getKey())) {
-				return entry.getValue().copy();
+				return entry.getValue();
 			}
 		}
 		return null;
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.utils;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.world.IWorldAccess;
+
+/**
+ * World listener which ignores every callback, so server side indexes only override the ones they react to.
+ */
+public abstract class WorldAccessAdapter implements IWorldAccess {
+	@Override
+	public void markBlockForUpdate(int x, int y, int z) {
+	}
+
+	@Override
+	public void markBlockForRenderUpdate(int x, int y, int z) {
+	}
+
+	@Override
+	public void markBlockRangeForRenderUpdate(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+	}
+
+	@Override
+	public void playSound(String soundName, double x, double y, double z, float volume, float pitch) {
+	}
+
+	@Override
+	public void playSoundToNearExcept(EntityPlayer player, String soundName, double x, double y, double z, float volume, float pitch) {
+	}
+
+	@Override
+	public void spawnParticle(String particleType, double x, double y, double z, double velX, double velY, double velZ) {
+	}
+
+	@Override
+	public void onEntityCreate(Entity entity) {
+	}
+
+	@Override
+	public void onEntityDestroy(Entity entity) {
+	}
+
+	@Override
+	public void playRecord(String recordName, int x, int y, int z) {
+	}
+
+	@Override
+	public void broadcastSound(int soundId, int x, int y, int z, int data) {
+	}
+
+	@Override
+	public void playAuxSFX(EntityPlayer player, int sfxType, int x, int y, int z, int data) {
+	}
+
+	@Override
+	public void destroyBlockPartially(int breakerId, int x, int y, int z, int progress) {
+	}
+
+	@Override
+	public void onStaticEntitiesChanged() {
+	}
+}
@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.utils.vect;
+
+/**
+ * Packs block positions into a long as 26 bits x, 26 bits z and 12 bits y.
+ */
+public final class PackedPositions {
+
+	private PackedPositions() {
+	}
+
+	public static long pack(int x, int y, int z) {
+		return ((long) x & 0x3FFFFFFL) << 38 | ((long) z & 0x3FFFFFFL) << 12 | ((long) y & 0xFFFL);
+	}
+
+	public static int unpackX(long packed) {
+		return (int) (packed >> 38);
+	}
+
+	public static int unpackZ(long packed) {
+		return (int) (packed << 26 >> 38);
+	}
+
+	public static int unpackY(long packed) {
+		return (int) (packed << 52 >> 52);
+	}
+}
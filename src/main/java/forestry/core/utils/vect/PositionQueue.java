@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.utils.vect;
+
+/**
+ * First in, first out ring buffer of packed positions.
+ */
+public class PositionQueue {
+	private long[] elements = new long[64];
+	private int head;
+	private int size;
+
+	public void clear() {
+		head = 0;
+		size = 0;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void add(long element) {
+		if (size == elements.length) {
+			long[] grown = new long[elements.length * 2];
+			for (int i = 0; i < size; i++) {
+				grown[i] = elements[(head + i) & (elements.length - 1)];
+			}
+			elements = grown;
+			head = 0;
+		}
+		elements[(head + size) & (elements.length - 1)] = element;
+		size++;
+	}
+
+	public long poll() {
+		long element = elements[head];
+		head = (head + 1) & (elements.length - 1);
+		size--;
+		return element;
+	}
+}
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.utils.vect;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash set of packed positions.
+ */
+public class PositionSet {
+	// PackedPositions.pack() never produces this for coordinates inside the world border
+	private static final long EMPTY = Long.MIN_VALUE;
+
+	private long[] keys = newKeys(256);
+	private int size;
+
+	private static long[] newKeys(int capacity) {
+		long[] keys = new long[capacity];
+		Arrays.fill(keys, EMPTY);
+		return keys;
+	}
+
+	public void clear() {
+		if (size > 0) {
+			Arrays.fill(keys, EMPTY);
+			size = 0;
+		}
+	}
+
+	/**
+	 * @return true if the position was not in the set yet.
+	 */
+	public boolean add(long key) {
+		if ((size + 1) * 2 > keys.length) {
+			rehash(keys.length * 2);
+		}
+
+		int mask = keys.length - 1;
+		int index = hash(key) & mask;
+		while (keys[index] != EMPTY) {
+			if (keys[index] == key) {
+				return false;
+			}
+			index = (index + 1) & mask;
+		}
+		keys[index] = key;
+		size++;
+		return true;
+	}
+
+	private void rehash(int capacity) {
+		long[] oldKeys = keys;
+		keys = newKeys(capacity);
+		int mask = capacity - 1;
+		for (long key : oldKeys) {
+			if (key != EMPTY) {
+				int index = hash(key) & mask;
+				while (keys[index] != EMPTY) {
+					index = (index + 1) & mask;
+				}
+				keys[index] = key;
+			}
+		}
+	}
+
+	private static int hash(long key) {
+		long hash = key * 0x9E3779B97F4A7C15L;
+		return (int) (hash ^ (hash >>> 32));
+	}
+}
@@ -32,6 +32,13 @@ import forestry.core.utils.ItemStackUtil;
 public class CarpenterRecipeManager implements ICarpenterManager {
 
 	private static final Set<ICarpenterRecipe> recipes = new HashSet<>();
+	// Recipes are indexed by their box, recipes without a box are always candidates
+	private static final RecipeIndex<ICarpenterRecipe> recipeIndex = new RecipeIndex<ICarpenterRecipe>(recipes) {
+		@Override
+		protected ItemStack[] getInputs(ICarpenterRecipe recipe) {
+			return new ItemStack[]{recipe.getBox()};
+		}
+	};
 	public static final Set<Fluid> recipeFluids = new HashSet<>();
 
 	@Override
@@ -51,7 +58,7 @@ public class CarpenterRecipeManager implements ICarpenterManager {
 	}
 
 	public static ICarpenterRecipe findMatchingRecipe(FluidStack liquid, ItemStack item, IInventory inventorycrafting, World world) {
-		for (ICarpenterRecipe recipe : recipes) {
+		for (ICarpenterRecipe recipe : recipeIndex.getCandidates(item)) {
 			if (matches(recipe, liquid, item, inventorycrafting, world)) {
 				return recipe;
 			}
@@ -81,7 +88,7 @@ public class CarpenterRecipeManager implements ICarpenterManager {
 			return false;
 		}
 
-		for (ICarpenterRecipe recipe : recipes) {
+		for (ICarpenterRecipe recipe : recipeIndex.getCandidates(resource)) {
 			ItemStack box = recipe.getBox();
 			if (ItemStackUtil.isIdenticalItem(box, resource)) {
 				return true;
@@ -98,6 +105,7 @@ public class CarpenterRecipeManager implements ICarpenterManager {
 			recipeFluids.add(fluidStack.getFluid());
 		}
 
+		recipeIndex.markDirty();
 		return recipes.add(recipe);
 	}
 
@@ -105,6 +113,7 @@ public class CarpenterRecipeManager implements ICarpenterManager {
 	public boolean removeRecipe(ICarpenterRecipe recipe) {
 		boolean removed = recipes.remove(recipe);
 		if (removed) {
+			recipeIndex.markDirty();
 			FluidStack fluidStack = recipe.getFluidResource();
 			if (fluidStack != null) {
 				recipeFluids.remove(fluidStack.getFluid());
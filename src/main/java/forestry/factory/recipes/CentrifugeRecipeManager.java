@@ -25,6 +25,12 @@ import forestry.core.utils.ItemStackUtil;
 public class CentrifugeRecipeManager implements ICentrifugeManager {
 
 	private static final Set<ICentrifugeRecipe> recipes = new HashSet<>();
+	private static final RecipeIndex<ICentrifugeRecipe> recipeIndex = new RecipeIndex<ICentrifugeRecipe>(recipes) {
+		@Override
+		protected ItemStack[] getInputs(ICentrifugeRecipe recipe) {
+			return new ItemStack[]{recipe.getInput()};
+		}
+	};
 
 	@Override
 	public void addRecipe(int timePerItem, ItemStack resource, Map<ItemStack, Float> products) {
@@ -37,22 +43,28 @@ public class CentrifugeRecipeManager implements ICentrifugeManager {
 			return null;
 		}
 
-		for (ICentrifugeRecipe recipe : recipes) {
-			ItemStack recipeInput = recipe.getInput();
-			if (ItemStackUtil.isCraftingEquivalent(recipeInput, itemStack)) {
+		for (ICentrifugeRecipe recipe : recipeIndex.getCandidates(itemStack)) {
+			if (matches(recipe, itemStack)) {
 				return recipe;
 			}
 		}
 		return null;
 	}
 
+	public static boolean matches(ICentrifugeRecipe recipe, ItemStack itemStack) {
+		ItemStack recipeInput = recipe.getInput();
+		return ItemStackUtil.isCraftingEquivalent(recipeInput, itemStack);
+	}
+
 	@Override
 	public boolean addRecipe(ICentrifugeRecipe recipe) {
+		recipeIndex.markDirty();
 		return recipes.add(recipe);
 	}
 
 	@Override
 	public boolean removeRecipe(ICentrifugeRecipe recipe) {
+		recipeIndex.markDirty();
 		return recipes.remove(recipe);
 	}
 
@@ -10,9 +10,11 @@
  ******************************************************************************/
 package forestry.factory.recipes;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -45,6 +47,19 @@ public class FabricatorRecipeManager implements IFabricatorManager {
 	}
 
 	public static IFabricatorRecipe findMatchingRecipe(ItemStack plan, FluidStack liquid, ItemStack[] resources) {
+		for (IFabricatorRecipe recipe : findMatchingRecipes(plan, resources)) {
+			if (hasLiquid(recipe, liquid)) {
+				return recipe;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * @return the recipes matching the plan and crafting grid, regardless of the available liquid.
+	 */
+	public static List<IFabricatorRecipe> findMatchingRecipes(ItemStack plan, ItemStack[] resources) {
 		ItemStack[][] gridResources = new ItemStack[3][3];
 		for (int i = 0; i < 3; i++) {
 			for (int j = 0; j < 3; j++) {
@@ -52,15 +67,18 @@ public class FabricatorRecipeManager implements IFabricatorManager {
 			}
 		}
 
+		List<IFabricatorRecipe> matchingRecipes = new ArrayList<>();
 		for (IFabricatorRecipe recipe : recipes) {
 			if (recipe.matches(plan, gridResources)) {
-				if (liquid == null || liquid.containsFluid(recipe.getLiquid())) {
-					return recipe;
-				}
+				matchingRecipes.add(recipe);
 			}
 		}
 
-		return null;
+		return matchingRecipes;
+	}
+
+	public static boolean hasLiquid(IFabricatorRecipe recipe, FluidStack liquid) {
+		return liquid == null || liquid.containsFluid(recipe.getLiquid());
 	}
 
 	public static boolean isPlan(ItemStack plan) {
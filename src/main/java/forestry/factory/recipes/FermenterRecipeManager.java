@@ -29,6 +29,12 @@ import forestry.core.utils.ItemStackUtil;
 public class FermenterRecipeManager implements IFermenterManager {
 
 	private static final Set<IFermenterRecipe> recipes = new HashSet<>();
+	private static final RecipeIndex<IFermenterRecipe> recipeIndex = new RecipeIndex<IFermenterRecipe>(recipes) {
+		@Override
+		protected ItemStack[] getInputs(IFermenterRecipe recipe) {
+			return new ItemStack[]{recipe.getResource()};
+		}
+	};
 	public static final Set<Fluid> recipeFluidInputs = new HashSet<>();
 	public static final Set<Fluid> recipeFluidOutputs = new HashSet<>();
 
@@ -44,7 +50,11 @@ public class FermenterRecipeManager implements IFermenterManager {
 	}
 
 	public static IFermenterRecipe findMatchingRecipe(ItemStack res, FluidStack liqu) {
-		for (IFermenterRecipe recipe : recipes) {
+		if (res == null) {
+			return null;
+		}
+
+		for (IFermenterRecipe recipe : recipeIndex.getCandidates(res)) {
 			if (matches(recipe, res, liqu)) {
 				return recipe;
 			}
@@ -52,7 +62,7 @@ public class FermenterRecipeManager implements IFermenterManager {
 		return null;
 	}
 
-	private static boolean matches(IFermenterRecipe recipe, ItemStack res, FluidStack liqu) {
+	public static boolean matches(IFermenterRecipe recipe, ItemStack res, FluidStack liqu) {
 		ItemStack resource = recipe.getResource();
 		if (!ItemStackUtil.isCraftingEquivalent(resource, res)) {
 			return false;
@@ -67,7 +77,7 @@ public class FermenterRecipeManager implements IFermenterManager {
 			return false;
 		}
 
-		for (IFermenterRecipe recipe : recipes) {
+		for (IFermenterRecipe recipe : recipeIndex.getCandidates(resource)) {
 			if (ItemStackUtil.isCraftingEquivalent(recipe.getResource(), resource)) {
 				return true;
 			}
@@ -83,6 +93,7 @@ public class FermenterRecipeManager implements IFermenterManager {
 		Fluid output = recipe.getOutput();
 		recipeFluidOutputs.add(output);
 
+		recipeIndex.markDirty();
 		return recipes.add(recipe);
 	}
 
@@ -94,6 +105,7 @@ public class FermenterRecipeManager implements IFermenterManager {
 		Fluid output = recipe.getOutput();
 		recipeFluidOutputs.remove(output);
 
+		recipeIndex.markDirty();
 		return recipes.remove(recipe);
 	}
 
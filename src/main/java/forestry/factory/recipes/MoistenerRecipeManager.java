@@ -25,6 +25,12 @@ import forestry.core.utils.ItemStackUtil;
 public class MoistenerRecipeManager implements IMoistenerManager {
 
 	private static final Set<IMoistenerRecipe> recipes = new HashSet<>();
+	private static final RecipeIndex<IMoistenerRecipe> recipeIndex = new RecipeIndex<IMoistenerRecipe>(recipes) {
+		@Override
+		protected ItemStack[] getInputs(IMoistenerRecipe recipe) {
+			return new ItemStack[]{recipe.getResource()};
+		}
+	};
 
 	@Override
 	public void addRecipe(ItemStack resource, ItemStack product, int timePerItem) {
@@ -37,7 +43,7 @@ public class MoistenerRecipeManager implements IMoistenerManager {
 			return false;
 		}
 
-		for (IMoistenerRecipe rec : recipes) {
+		for (IMoistenerRecipe rec : recipeIndex.getCandidates(resource)) {
 			if (ItemStackUtil.isIdenticalItem(resource, rec.getResource())) {
 				return true;
 			}
@@ -47,21 +53,31 @@ public class MoistenerRecipeManager implements IMoistenerManager {
 	}
 
 	public static IMoistenerRecipe findMatchingRecipe(ItemStack item) {
-		for (IMoistenerRecipe recipe : recipes) {
-			if (ItemStackUtil.isCraftingEquivalent(recipe.getResource(), item)) {
+		if (item == null) {
+			return null;
+		}
+
+		for (IMoistenerRecipe recipe : recipeIndex.getCandidates(item)) {
+			if (matches(recipe, item)) {
 				return recipe;
 			}
 		}
 		return null;
 	}
 
+	public static boolean matches(IMoistenerRecipe recipe, ItemStack item) {
+		return ItemStackUtil.isCraftingEquivalent(recipe.getResource(), item);
+	}
+
 	@Override
 	public boolean addRecipe(IMoistenerRecipe recipe) {
+		recipeIndex.markDirty();
 		return recipes.add(recipe);
 	}
 
 	@Override
 	public boolean removeRecipe(IMoistenerRecipe recipe) {
+		recipeIndex.markDirty();
 		return recipes.remove(recipe);
 	}
 
@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.factory.recipes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+import net.minecraftforge.oredict.OreDictionary;
+
+/**
+ * Narrows down the recipes of a recipe manager which can match the items offered to a machine,
+ * so the manager only has to run its full matching logic on a few candidates instead of every recipe.
+ *
+ * Recipes are bucketed by the item and damage of their inputs, or by item alone for wildcard damage,
+ * and by the ore dictionary names of their inputs. Recipes without any item input are candidates for everything.
+ * The index is rebuilt on the first lookup after the recipes changed.
+ *
+ * @param <R> The recipe type
+ */
+public abstract class RecipeIndex<R> {
+
+	private final Collection<R> recipes;
+
+	private final Map<Item, ItemBucket<R>> itemBuckets = new HashMap<>();
+	private final Map<Integer, List<R>> oreBuckets = new HashMap<>();
+	private final List<R> unconditional = new ArrayList<>();
+	private boolean dirty = true;
+
+	private static class ItemBucket<R> {
+		private final Map<Integer, List<R>> byDamage = new HashMap<>();
+		private final List<R> anyDamage = new ArrayList<>();
+		private final List<R> all = new ArrayList<>();
+	}
+
+	/**
+	 * @param recipes The live recipe collection of the manager. Call {@link #markDirty()} whenever it changes.
+	 */
+	protected RecipeIndex(Collection<R> recipes) {
+		this.recipes = recipes;
+	}
+
+	/**
+	 * @return the item inputs of a recipe. Null entries are ignored.
+	 */
+	protected abstract ItemStack[] getInputs(R recipe);
+
+	public synchronized void markDirty() {
+		dirty = true;
+	}
+
+	/**
+	 * @return the recipes which may match any of the stacks when compared without the ore dictionary.
+	 */
+	public synchronized Collection<R> getCandidates(ItemStack... stacks) {
+		rebuildIfDirty();
+
+		Set<R> candidates = new LinkedHashSet<>(unconditional);
+		addItemCandidates(candidates, stacks);
+		return candidates;
+	}
+
+	/**
+	 * @return the recipes which may match any of the stacks when compared with the ore dictionary.
+	 */
+	public synchronized Collection<R> getOreDictCandidates(ItemStack... stacks) {
+		rebuildIfDirty();
+
+		Set<R> candidates = new LinkedHashSet<>(unconditional);
+		addItemCandidates(candidates, stacks);
+		for (ItemStack stack : stacks) {
+			if (stack == null) {
+				continue;
+			}
+			for (int oreId : OreDictionary.getOreIDs(stack)) {
+				List<R> oreBucket = oreBuckets.get(oreId);
+				if (oreBucket != null) {
+					candidates.addAll(oreBucket);
+				}
+			}
+		}
+		return candidates;
+	}
+
+	private void addItemCandidates(Set<R> candidates, ItemStack[] stacks) {
+		for (ItemStack stack : stacks) {
+			if (stack == null) {
+				continue;
+			}
+
+			ItemBucket<R> itemBucket = itemBuckets.get(stack.getItem());
+			if (itemBucket == null) {
+				continue;
+			}
+
+			if (stack.getItemDamage() == OreDictionary.WILDCARD_VALUE) {
+				candidates.addAll(itemBucket.all);
+			} else {
+				List<R> damageBucket = itemBucket.byDamage.get(stack.getItemDamage());
+				if (damageBucket != null) {
+					candidates.addAll(damageBucket);
+				}
+				candidates.addAll(itemBucket.anyDamage);
+			}
+		}
+	}
+
+	// Done lazily as ore dictionary entries may still be registered after recipes were added
+	private void rebuildIfDirty() {
+		if (!dirty) {
+			return;
+		}
+
+		itemBuckets.clear();
+		oreBuckets.clear();
+		unconditional.clear();
+
+		for (R recipe : recipes) {
+			boolean indexed = false;
+
+			ItemStack[] inputs = getInputs(recipe);
+			if (inputs != null) {
+				for (ItemStack input : inputs) {
+					if (input == null || input.getItem() == null) {
+						continue;
+					}
+					addToItemBucket(recipe, input);
+					addToOreBuckets(recipe, input);
+					indexed = true;
+				}
+			}
+
+			if (!indexed) {
+				unconditional.add(recipe);
+			}
+		}
+
+		dirty = false;
+	}
+
+	private void addToItemBucket(R recipe, ItemStack input) {
+		ItemBucket<R> itemBucket = itemBuckets.get(input.getItem());
+		if (itemBucket == null) {
+			itemBucket = new ItemBucket<>();
+			itemBuckets.put(input.getItem(), itemBucket);
+		}
+
+		itemBucket.all.add(recipe);
+		if (input.getItemDamage() == OreDictionary.WILDCARD_VALUE) {
+			itemBucket.anyDamage.add(recipe);
+		} else {
+			List<R> damageBucket = itemBucket.byDamage.get(input.getItemDamage());
+			if (damageBucket == null) {
+				damageBucket = new ArrayList<>();
+				itemBucket.byDamage.put(input.getItemDamage(), damageBucket);
+			}
+			damageBucket.add(recipe);
+		}
+	}
+
+	private void addToOreBuckets(R recipe, ItemStack input) {
+		for (int oreId : OreDictionary.getOreIDs(input)) {
+			List<R> oreBucket = oreBuckets.get(oreId);
+			if (oreBucket == null) {
+				oreBucket = new ArrayList<>();
+				oreBuckets.put(oreId, oreBucket);
+			}
+			oreBucket.add(recipe);
+		}
+	}
+}
@@ -30,6 +30,12 @@ import forestry.core.utils.datastructures.ItemStackMap;
 public class SqueezerRecipeManager implements ISqueezerManager {
 
 	private static final Set<ISqueezerRecipe> recipes = new HashSet<>();
+	private static final RecipeIndex<ISqueezerRecipe> recipeIndex = new RecipeIndex<ISqueezerRecipe>(recipes) {
+		@Override
+		protected ItemStack[] getInputs(ISqueezerRecipe recipe) {
+			return recipe.getResources();
+		}
+	};
 	public static final ItemStackMap<ISqueezerContainerRecipe> containerRecipes = new ItemStackMap<>();
 
 	@Override
@@ -71,14 +77,14 @@ public class SqueezerRecipeManager implements ISqueezerManager {
 		}
 
 		// First try to match a specific recipe (without OreDictionary)
-		for (ISqueezerRecipe recipe : recipes) {
+		for (ISqueezerRecipe recipe : recipeIndex.getCandidates(items)) {
 			if (ItemStackUtil.containsSets(recipe.getResources(), items, false, false) > 0) {
 				return recipe;
 			}
 		}
 
 		// If that fails - try again with OreDictionary support enabled
-		for (ISqueezerRecipe recipe : recipes) {
+		for (ISqueezerRecipe recipe : recipeIndex.getOreDictCandidates(items)) {
 			if (ItemStackUtil.containsSets(recipe.getResources(), items, true, false) > 0) {
 				return recipe;
 			}
@@ -88,7 +94,7 @@ public class SqueezerRecipeManager implements ISqueezerManager {
 	}
 
 	public static boolean canUse(ItemStack itemStack) {
-		for (ISqueezerRecipe recipe : recipes) {
+		for (ISqueezerRecipe recipe : recipeIndex.getOreDictCandidates(itemStack)) {
 			for (ItemStack recipeInput : recipe.getResources()) {
 				if (ItemStackUtil.isCraftingEquivalent(recipeInput, itemStack, true, false)) {
 					return true;
@@ -101,11 +107,13 @@ public class SqueezerRecipeManager implements ISqueezerManager {
 
 	@Override
 	public boolean addRecipe(ISqueezerRecipe recipe) {
+		recipeIndex.markDirty();
 		return recipes.add(recipe);
 	}
 
 	@Override
 	public boolean removeRecipe(ISqueezerRecipe recipe) {
+		recipeIndex.markDirty();
 		return recipes.remove(recipe);
 	}
 
@@ -71,6 +71,11 @@ public class TileCarpenter extends TilePowered implements ISidedInventory, ILiqu
 
 	@Nullable
 	private ICarpenterRecipe currentRecipe;
+	// Set when the fluid or box changed, so the recipe has to be looked up again
+	private boolean recipeInputsChanged = true;
+	// Complete resource sets for the current recipe in the inventory, -1 if they have to be counted again
+	private int availableSets = -1;
+	private boolean removingResources;
 	private int packageTime;
 	private int totalTime;
 	private ItemStack pendingProduct;
@@ -149,14 +154,32 @@ public class TileCarpenter extends TilePowered implements ISidedInventory, ILiqu
 		tankManager.readPacketData(data);
 	}
 
+	/**
+	 * Looks up the recipe again, called when the crafting grid changed.
+	 */
 	public void resetRecipe() {
 		if (worldObj.isRemote) {
 			return;
 		}
+		availableSets = -1;
+		updateRecipe();
+	}
+
+	private void checkRecipe() {
+		if (recipeInputsChanged) {
+			updateRecipe();
+		}
+	}
+
+	private void updateRecipe() {
+		recipeInputsChanged = false;
 		setCurrentRecipe(CarpenterRecipeManager.findMatchingRecipe(resourceTank.getFluid(), getBoxStack(), craftingInventory, getWorldObj()));
 	}
 
 	private void setCurrentRecipe(@Nullable ICarpenterRecipe currentRecipe) {
+		if (this.currentRecipe != currentRecipe) {
+			availableSets = -1;
+		}
 		this.currentRecipe = currentRecipe;
 
 		final ItemStack craftingResult;
@@ -188,10 +211,7 @@ public class TileCarpenter extends TilePowered implements ISidedInventory, ILiqu
 		}
 
 		if (currentRecipe == null) {
-			ICarpenterRecipe recipe = CarpenterRecipeManager.findMatchingRecipe(resourceTank.getFluid(), getBoxStack(), craftingInventory, worldObj);
-			if (recipe != null) {
-				setCurrentRecipe(recipe);
-			}
+			checkRecipe();
 		}
 
 		IErrorLogic errorLogic = getErrorLogic();
@@ -222,7 +242,7 @@ public class TileCarpenter extends TilePowered implements ISidedInventory, ILiqu
 				}
 
 				// Update product display
-				resetRecipe();
+				checkRecipe();
 
 				return tryAddPending();
 			}
@@ -239,7 +259,7 @@ public class TileCarpenter extends TilePowered implements ISidedInventory, ILiqu
 			packageTime = totalTime = currentRecipe.getPackagingTime();
 
 			// Update product display
-			resetRecipe();
+			checkRecipe();
 
 			return true;
 		} else {
@@ -269,10 +289,13 @@ public class TileCarpenter extends TilePowered implements ISidedInventory, ILiqu
 		}
 
 		// Need at least one matched set
-		ItemStack[] set = InventoryUtil.getStacks(craftingInventory, SLOT_CRAFTING_1, SLOT_CRAFTING_COUNT);
-		ItemStack[] stock = InventoryUtil.getStacks(accessibleInventory, SLOT_INVENTORY_1, SLOT_INVENTORY_COUNT);
+		if (availableSets < 0) {
+			ItemStack[] set = InventoryUtil.getStacks(craftingInventory, SLOT_CRAFTING_1, SLOT_CRAFTING_COUNT);
+			ItemStack[] stock = InventoryUtil.getStacks(accessibleInventory, SLOT_INVENTORY_1, SLOT_INVENTORY_COUNT);
+			availableSets = ItemStackUtil.containsSets(set, stock, true, false);
+		}
 
-		return ItemStackUtil.containsSets(set, stock, true, false) > 0;
+		return availableSets > 0;
 	}
 
 	private boolean removeResources(ICarpenterRecipe recipe) {
@@ -283,6 +306,7 @@ public class TileCarpenter extends TilePowered implements ISidedInventory, ILiqu
 			FluidStack amountDrained = resourceTank.drain(fluid.amount, false);
 			if (amountDrained != null && amountDrained.amount == fluid.amount) {
 				resourceTank.drain(fluid.amount, true);
+				recipeInputsChanged = true;
 			} else {
 				return false;
 			}
@@ -294,7 +318,18 @@ public class TileCarpenter extends TilePowered implements ISidedInventory, ILiqu
 				return false;
 			}
 		}
-		return removeSets(1, InventoryUtil.getStacks(craftingInventory, SLOT_CRAFTING_1, SLOT_CRAFTING_COUNT));
+
+		// Count down the known sets instead of counting them again, unless the removal went wrong
+		removingResources = true;
+		boolean removed = removeSets(1, InventoryUtil.getStacks(craftingInventory, SLOT_CRAFTING_1, SLOT_CRAFTING_COUNT));
+		removingResources = false;
+
+		if (removed && availableSets > 1) {
+			availableSets--;
+		} else {
+			availableSets = -1;
+		}
+		return removed;
 	}
 
 	private boolean removeSets(int count, ItemStack[] set) {
@@ -317,6 +352,25 @@ public class TileCarpenter extends TilePowered implements ISidedInventory, ILiqu
 		return added;
 	}
 
+	private void onSlotChanged(int slotIndex) {
+		if (slotIndex == SLOT_BOX || slotIndex == SLOT_CAN_INPUT) {
+			recipeInputsChanged = true;
+		} else if (!removingResources && SlotUtil.isSlotInRange(slotIndex, SLOT_INVENTORY_1, SLOT_INVENTORY_COUNT)) {
+			availableSets = -1;
+		}
+	}
+
+	@Override
+	public void markDirty() {
+		super.markDirty();
+
+		// Contents may have been changed without going through the inventory, check everything again
+		if (!removingResources) {
+			recipeInputsChanged = true;
+			availableSets = -1;
+		}
+	}
+
 	/* STATE INFORMATION */
 	@Override
 	public boolean hasWork() {
@@ -390,7 +444,11 @@ public class TileCarpenter extends TilePowered implements ISidedInventory, ILiqu
 	// IFLUIDCONTAINER IMPLEMENTATION
 	@Override
 	public int fill(ForgeDirection direction, FluidStack resource, boolean doFill) {
-		return tankManager.fill(direction, resource, doFill);
+		int filled = tankManager.fill(direction, resource, doFill);
+		if (doFill && filled > 0) {
+			recipeInputsChanged = true;
+		}
+		return filled;
 	}
 
 	@Override
@@ -400,12 +458,20 @@ public class TileCarpenter extends TilePowered implements ISidedInventory, ILiqu
 
 	@Override
 	public FluidStack drain(ForgeDirection from, FluidStack resource, boolean doDrain) {
-		return tankManager.drain(from, resource, doDrain);
+		FluidStack drained = tankManager.drain(from, resource, doDrain);
+		if (doDrain && drained != null) {
+			recipeInputsChanged = true;
+		}
+		return drained;
 	}
 
 	@Override
 	public FluidStack drain(ForgeDirection from, int maxDrain, boolean doDrain) {
-		return tankManager.drain(from, maxDrain, doDrain);
+		FluidStack drained = tankManager.drain(from, maxDrain, doDrain);
+		if (doDrain && drained != null) {
+			recipeInputsChanged = true;
+		}
+		return drained;
 	}
 
 	@Override
@@ -446,6 +512,19 @@ public class TileCarpenter extends TilePowered implements ISidedInventory, ILiqu
 		public boolean canExtractItem(int slotIndex, ItemStack itemstack, int side) {
 			return slotIndex == SLOT_PRODUCT;
 		}
+
+		@Override
+		public void setInventorySlotContents(int slotIndex, ItemStack itemStack) {
+			super.setInventorySlotContents(slotIndex, itemStack);
+			tile.onSlotChanged(slotIndex);
+		}
+
+		@Override
+		public ItemStack decrStackSize(int slotIndex, int amount) {
+			ItemStack removed = super.decrStackSize(slotIndex, amount);
+			tile.onSlotChanged(slotIndex);
+			return removed;
+		}
 	}
 
 }
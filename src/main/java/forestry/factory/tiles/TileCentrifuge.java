@@ -159,7 +159,12 @@ public class TileCentrifuge extends TilePowered implements ISocketable, ISidedIn
 
 	private void checkRecipe() {
 		ItemStack resource = getStackInSlot(SLOT_RESOURCE);
-		ICentrifugeRecipe matchingRecipe = CentrifugeRecipeManager.findMatchingRecipe(resource);
+		ICentrifugeRecipe matchingRecipe;
+		if (currentRecipe != null && CentrifugeRecipeManager.matches(currentRecipe, resource)) {
+			matchingRecipe = currentRecipe;
+		} else {
+			matchingRecipe = CentrifugeRecipeManager.findMatchingRecipe(resource);
+		}
 
 		if (currentRecipe != matchingRecipe) {
 			currentRecipe = matchingRecipe;
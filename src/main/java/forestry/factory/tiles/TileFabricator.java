@@ -11,6 +11,7 @@
 package forestry.factory.tiles;
 
 import java.io.IOException;
+import java.util.List;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.Container;
@@ -75,6 +76,12 @@ public class TileFabricator extends TilePowered implements ICrafter, ILiquidTank
 	private int heat = 0;
 	private int guiMeltingPoint = 0;
 
+	// Recipes matching the plan and crafting grid, null if they have to be looked up again
+	private List<IFabricatorRecipe> gridRecipes;
+	// Complete resource sets for the crafting grid in the inventory, -1 if they have to be counted again
+	private int availableSets = -1;
+	private boolean removingResources;
+
 	public TileFabricator() {
 		super(1100, 3300, 200);
 		craftingInventory = new TileInventoryAdapter<>(this, SLOT_CRAFTING_COUNT, "CraftItems");
@@ -207,10 +214,20 @@ public class TileFabricator extends TilePowered implements ICrafter, ILiquidTank
 	}
 
 	private IFabricatorRecipe getRecipe() {
-		IInventoryAdapter inventory = getInternalInventory();
-		ItemStack plan = inventory.getStackInSlot(SLOT_PLAN);
-		ItemStack[] crafting = InventoryUtil.getStacks(craftingInventory, SLOT_CRAFTING_1, SLOT_CRAFTING_COUNT);
-		return FabricatorRecipeManager.findMatchingRecipe(plan, moltenTank.getFluid(), crafting);
+		if (gridRecipes == null) {
+			IInventoryAdapter inventory = getInternalInventory();
+			ItemStack plan = inventory.getStackInSlot(SLOT_PLAN);
+			ItemStack[] crafting = InventoryUtil.getStacks(craftingInventory, SLOT_CRAFTING_1, SLOT_CRAFTING_COUNT);
+			gridRecipes = FabricatorRecipeManager.findMatchingRecipes(plan, crafting);
+		}
+
+		FluidStack liquid = moltenTank.getFluid();
+		for (IFabricatorRecipe recipe : gridRecipes) {
+			if (FabricatorRecipeManager.hasLiquid(recipe, liquid)) {
+				return recipe;
+			}
+		}
+		return null;
 	}
 
 	/* ICRAFTER */
@@ -286,10 +303,42 @@ public class TileFabricator extends TilePowered implements ICrafter, ILiquidTank
 	private boolean removeFromInventory(ItemStack[] set, EntityPlayer player, boolean doRemove) {
 		IInventoryAdapter inventory = getInternalInventory();
 		if (doRemove) {
-			return InventoryUtil.removeSets(inventory, 1, set, SLOT_INVENTORY_1, SLOT_INVENTORY_COUNT, player, true, true);
+			// Count down the known sets instead of counting them again, unless the removal went wrong
+			removingResources = true;
+			boolean removed = InventoryUtil.removeSets(inventory, 1, set, SLOT_INVENTORY_1, SLOT_INVENTORY_COUNT, player, true, true);
+			removingResources = false;
+
+			if (removed && availableSets > 1) {
+				availableSets--;
+			} else {
+				availableSets = -1;
+			}
+			return removed;
 		} else {
-			ItemStack[] stock = InventoryUtil.getStacks(inventory, SLOT_INVENTORY_1, SLOT_INVENTORY_COUNT);
-			return ItemStackUtil.containsSets(set, stock) >= 1;
+			if (availableSets < 0) {
+				ItemStack[] stock = InventoryUtil.getStacks(inventory, SLOT_INVENTORY_1, SLOT_INVENTORY_COUNT);
+				availableSets = ItemStackUtil.containsSets(set, stock);
+			}
+			return availableSets >= 1;
+		}
+	}
+
+	private void onSlotChanged(int slotIndex) {
+		if (slotIndex == SLOT_PLAN) {
+			gridRecipes = null;
+		} else if (!removingResources && SlotUtil.isSlotInRange(slotIndex, SLOT_INVENTORY_1, SLOT_INVENTORY_COUNT)) {
+			availableSets = -1;
+		}
+	}
+
+	@Override
+	public void markDirty() {
+		super.markDirty();
+
+		// The crafting grid changed, or contents were changed without going through the inventory
+		if (!removingResources) {
+			gridRecipes = null;
+			availableSets = -1;
 		}
 	}
 
@@ -302,10 +351,7 @@ public class TileFabricator extends TilePowered implements ICrafter, ILiquidTank
 			return true;
 		}
 
-		ItemStack plan = inventory.getStackInSlot(SLOT_PLAN);
-		ItemStack[] resources = InventoryUtil.getStacks(craftingInventory, SLOT_CRAFTING_1, SLOT_CRAFTING_COUNT);
-
-		return FabricatorRecipeManager.findMatchingRecipe(plan, moltenTank.getFluid(), resources) != null;
+		return getRecipe() != null;
 	}
 
 	public int getHeatScaled(int i) {
@@ -430,6 +476,19 @@ public class TileFabricator extends TilePowered implements ICrafter, ILiquidTank
 		public boolean canExtractItem(int slotIndex, ItemStack stack, int side) {
 			return slotIndex == SLOT_RESULT;
 		}
+
+		@Override
+		public void setInventorySlotContents(int slotIndex, ItemStack itemStack) {
+			super.setInventorySlotContents(slotIndex, itemStack);
+			tile.onSlotChanged(slotIndex);
+		}
+
+		@Override
+		public ItemStack decrStackSize(int slotIndex, int amount) {
+			ItemStack removed = super.decrStackSize(slotIndex, amount);
+			tile.onSlotChanged(slotIndex);
+			return removed;
+		}
 	}
 
 }
@@ -155,7 +155,7 @@ public class TileFermenter extends TilePowered implements ISidedInventory, ILiqu
 
 		IErrorLogic errorLogic = getErrorLogic();
 
-		boolean hasRecipe = FermenterRecipeManager.findMatchingRecipe(inventory.getStackInSlot(SLOT_RESOURCE), resourceTank.getFluid()) != null;
+		boolean hasRecipe = getMatchingRecipe() != null;
 		errorLogic.setCondition(!hasRecipe, EnumErrorCode.NORECIPE);
 
 		boolean hasResource = resourceTank.getFluidAmount() >= fuelCurrentFerment;
@@ -240,14 +240,22 @@ public class TileFermenter extends TilePowered implements ISidedInventory, ILiqu
 	}
 
 	private void checkRecipe() {
-		IInventoryAdapter inventory = getInternalInventory();
-		IFermenterRecipe sameRec = FermenterRecipeManager.findMatchingRecipe(inventory.getStackInSlot(SLOT_RESOURCE), resourceTank.getFluid());
+		IFermenterRecipe sameRec = getMatchingRecipe();
 
 		if (currentRecipe != sameRec) {
 			currentRecipe = sameRec;
 		}
 	}
 
+	private IFermenterRecipe getMatchingRecipe() {
+		ItemStack resource = getInternalInventory().getStackInSlot(SLOT_RESOURCE);
+		FluidStack fluid = resourceTank.getFluid();
+		if (currentRecipe != null && FermenterRecipeManager.matches(currentRecipe, resource, fluid)) {
+			return currentRecipe;
+		}
+		return FermenterRecipeManager.findMatchingRecipe(resource, fluid);
+	}
+
 	private void resetRecipe() {
 		if (currentRecipe == null) {
 			fermentationTime = 0;
@@ -315,7 +323,7 @@ public class TileFermenter extends TilePowered implements ISidedInventory, ILiqu
 
 	@Override
 	public boolean hasWork() {
-		if (currentRecipe == null && FermenterRecipeManager.findMatchingRecipe(getStackInSlot(SLOT_RESOURCE), resourceTank.getFluid()) == null) {
+		if (currentRecipe == null && getMatchingRecipe() == null) {
 			return false;
 		}
 
@@ -242,7 +242,13 @@ public class TileMoistener extends TileBase implements ISidedInventory, ILiquidT
 	}
 
 	public void checkRecipe() {
-		IMoistenerRecipe sameRec = MoistenerRecipeManager.findMatchingRecipe(getInternalInventory().getStackInSlot(SLOT_RESOURCE));
+		ItemStack resource = getInternalInventory().getStackInSlot(SLOT_RESOURCE);
+		IMoistenerRecipe sameRec;
+		if (currentRecipe != null && MoistenerRecipeManager.matches(currentRecipe, resource)) {
+			sameRec = currentRecipe;
+		} else {
+			sameRec = MoistenerRecipeManager.findMatchingRecipe(resource);
+		}
 		if (currentRecipe != sameRec) {
 			currentRecipe = sameRec;
 			resetRecipe();
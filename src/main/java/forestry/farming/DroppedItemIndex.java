@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.farming;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.World;
+
+import forestry.core.utils.WorldAccessAdapter;
+
+/**
+ * Dropped items of a server world, bucketed by the chunk they are in.
+ * Farms look up windfall here instead of scanning all entities around them.
+ *
+ * Items move to another bucket whenever they enter a chunk, which includes spawning into the world.
+ * They are removed once the world removes the entity, which is only after it died, so cancelled pickups and despawns keep them.
+ * Each bucket remembers when an item was last added to it, so callers can tell whether anything new arrived since they last looked.
+ */
+public class DroppedItemIndex extends WorldAccessAdapter {
+	private static final Map<World, DroppedItemIndex> indexes = new WeakHashMap<>();
+
+	private final Map<Long, Bucket> buckets = new HashMap<>();
+	private int version;
+
+	private static class Bucket {
+		private final Set<EntityItem> items = new LinkedHashSet<>();
+		private int version;
+	}
+
+	public static DroppedItemIndex getIndex(World world) {
+		return indexes.get(world);
+	}
+
+	public static void onWorldLoad(World world) {
+		if (!world.isRemote && !indexes.containsKey(world)) {
+			DroppedItemIndex index = new DroppedItemIndex();
+			indexes.put(world, index);
+			world.addWorldAccess(index);
+		}
+	}
+
+	public static void onWorldUnload(World world) {
+		DroppedItemIndex index = indexes.remove(world);
+		if (index != null) {
+			world.removeWorldAccess(index);
+		}
+	}
+
+	public void onItemEnteringChunk(EntityItem item, int oldChunkX, int oldChunkZ, int chunkX, int chunkZ) {
+		removeItem(item, oldChunkX, oldChunkZ);
+
+		long key = ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ);
+		Bucket bucket = buckets.get(key);
+		if (bucket == null) {
+			bucket = new Bucket();
+			buckets.put(key, bucket);
+		}
+		if (bucket.items.add(item)) {
+			bucket.version = ++version;
+		}
+	}
+
+	private void removeItem(EntityItem item, int chunkX, int chunkZ) {
+		long key = ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ);
+		Bucket bucket = buckets.get(key);
+		if (bucket != null) {
+			bucket.items.remove(item);
+			if (bucket.items.isEmpty()) {
+				buckets.remove(key);
+			}
+		}
+	}
+
+	public void onChunkUnload(int chunkX, int chunkZ) {
+		buckets.remove(ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ));
+	}
+
+	/**
+	 * @return the last time an item was added to any of the chunks overlapping the box.
+	 */
+	public int getVersion(AxisAlignedBB box) {
+		int newest = 0;
+		for (int chunkX = getMinChunk(box.minX); chunkX <= getMaxChunk(box.maxX); chunkX++) {
+			for (int chunkZ = getMinChunk(box.minZ); chunkZ <= getMaxChunk(box.maxZ); chunkZ++) {
+				Bucket bucket = buckets.get(ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ));
+				if (bucket != null && bucket.version > newest) {
+					newest = bucket.version;
+				}
+			}
+		}
+		return newest;
+	}
+
+	/**
+	 * @return the living items in the chunks overlapping the box. They are not necessarily inside the box itself.
+	 */
+	public List<EntityItem> getItemsNear(AxisAlignedBB box) {
+		List<EntityItem> items = new ArrayList<>();
+		for (int chunkX = getMinChunk(box.minX); chunkX <= getMaxChunk(box.maxX); chunkX++) {
+			for (int chunkZ = getMinChunk(box.minZ); chunkZ <= getMaxChunk(box.maxZ); chunkZ++) {
+				Bucket bucket = buckets.get(ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ));
+				if (bucket == null) {
+					continue;
+				}
+
+				for (EntityItem item : bucket.items) {
+					// dead items stay listed until the world removes them at the end of the tick
+					if (!item.isDead) {
+						items.add(item);
+					}
+				}
+			}
+		}
+		return items;
+	}
+
+	@Override
+	public void onEntityDestroy(Entity entity) {
+		if (entity instanceof EntityItem) {
+			removeItem((EntityItem) entity, entity.chunkCoordX, entity.chunkCoordZ);
+		}
+	}
+
+	// Entities are listed in the chunks they stand in, reaching two blocks out catches those overlapping the box like World.getEntitiesWithinAABB
+	private static int getMinChunk(double min) {
+		return MathHelper.floor_double(min - 2.0D) >> 4;
+	}
+
+	private static int getMaxChunk(double max) {
+		return MathHelper.floor_double(max + 2.0D) >> 4;
+	}
+}
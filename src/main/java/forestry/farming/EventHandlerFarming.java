@@ -11,8 +11,12 @@
 package forestry.farming;
 
 import net.minecraft.block.Block;
+import net.minecraft.entity.item.EntityItem;
 
+import net.minecraftforge.event.entity.EntityEvent;
 import net.minecraftforge.event.entity.player.BonemealEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
 
 import cpw.mods.fml.common.eventhandler.Event.Result;
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
@@ -37,4 +41,34 @@ public class EventHandlerFarming {
 		((BlockMushroom) ForestryBlock.mushroom.block()).func_149878_d(event.world, event.x, event.y, event.z, event.world.rand);
 		event.setResult(Result.ALLOW);
 	}
+
+	@SubscribeEvent
+	public void onWorldLoad(WorldEvent.Load event) {
+		DroppedItemIndex.onWorldLoad(event.world);
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		DroppedItemIndex.onWorldUnload(event.world);
+	}
+
+	@SubscribeEvent
+	public void onEntityEnteringChunk(EntityEvent.EnteringChunk event) {
+		if (!(event.entity instanceof EntityItem)) {
+			return;
+		}
+
+		DroppedItemIndex droppedItemIndex = DroppedItemIndex.getIndex(event.entity.worldObj);
+		if (droppedItemIndex != null) {
+			droppedItemIndex.onItemEnteringChunk((EntityItem) event.entity, event.oldChunkX, event.oldChunkZ, event.newChunkX, event.newChunkZ);
+		}
+	}
+
+	@SubscribeEvent
+	public void onChunkUnload(ChunkEvent.Unload event) {
+		DroppedItemIndex droppedItemIndex = DroppedItemIndex.getIndex(event.world);
+		if (droppedItemIndex != null) {
+			droppedItemIndex.onChunkUnload(event.getChunk().xPosition, event.getChunk().zPosition);
+		}
+	}
 }
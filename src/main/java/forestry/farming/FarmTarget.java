@@ -10,13 +10,10 @@
  ******************************************************************************/
 package forestry.farming;
 
-import net.minecraft.block.Block;
-import net.minecraft.world.World;
-
 import forestry.api.farming.FarmDirection;
 import forestry.core.utils.vect.MutableVect;
 import forestry.core.utils.vect.Vect;
-import forestry.core.utils.vect.VectUtil;
+import forestry.farming.multiblock.FarmHeightMap;
 
 public class FarmTarget {
 
@@ -49,7 +46,7 @@ public class FarmTarget {
 		return direction;
 	}
 
-	public void setExtentAndYOffset(World world, Vect platformPosition) {
+	public void setExtentAndYOffset(FarmHeightMap heightMap, Vect platformPosition) {
 		if (platformPosition == null) {
 			extent = 0;
 			return;
@@ -57,8 +54,7 @@ public class FarmTarget {
 
 		MutableVect position = new MutableVect(platformPosition);
 		for (extent = 0; extent < limit; extent++) {
-			Block platform = VectUtil.getBlock(world, position);
-			if (!FarmHelper.bricks.contains(platform)) {
+			if (!heightMap.isBrick(position.x, position.y, position.z)) {
 				break;
 			}
 			position.add(getDirection().getForgeDirection());
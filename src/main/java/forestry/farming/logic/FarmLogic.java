@@ -10,9 +10,15 @@
  ******************************************************************************/
 package forestry.farming.logic;
 
+import java.util.Collection;
+import java.util.List;
+
 import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
+import net.minecraft.entity.item.EntityItem;
 import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.AxisAlignedBB;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.world.World;
 
@@ -22,6 +28,7 @@ import forestry.api.farming.IFarmLogic;
 import forestry.core.config.Constants;
 import forestry.core.render.SpriteSheet;
 import forestry.core.utils.vect.Vect;
+import forestry.farming.DroppedItemIndex;
 
 public abstract class FarmLogic implements IFarmLogic {
 
@@ -29,6 +36,10 @@ public abstract class FarmLogic implements IFarmLogic {
 
 	protected boolean isManual;
 
+	// Dropped item index version seen by the last collection, and whether wanted items were left lying outside the box then
+	private int windfallVersion = -1;
+	private boolean windfallOutOfReach;
+
 	protected FarmLogic(IFarmHousing housing) {
 		this.housing = housing;
 	}
@@ -64,4 +75,55 @@ public abstract class FarmLogic implements IFarmLogic {
 		getWorld().setBlock(position.x, position.y, position.z, block, meta, Constants.FLAG_BLOCK_SYNCH_AND_UPDATE);
 	}
 
+	protected boolean isWindfall(ItemStack itemstack) {
+		return false;
+	}
+
+	/**
+	 * Picks up accepted germlings and windfall lying inside the box.
+	 * Skips the lookup entirely if no item arrived near the box since the last time and none were left out of reach.
+	 */
+	@SuppressWarnings("unchecked")
+	protected final void collectDroppedItems(Collection<ItemStack> produce, AxisAlignedBB box) {
+		World world = getWorld();
+		DroppedItemIndex droppedItemIndex = DroppedItemIndex.getIndex(world);
+		if (droppedItemIndex == null) {
+			List<EntityItem> items = world.getEntitiesWithinAABB(EntityItem.class, box);
+			for (EntityItem item : items) {
+				collectDroppedItem(produce, item);
+			}
+			return;
+		}
+
+		int version = droppedItemIndex.getVersion(box);
+		if (version == windfallVersion && !windfallOutOfReach) {
+			return;
+		}
+
+		windfallVersion = version;
+		windfallOutOfReach = false;
+		for (EntityItem item : droppedItemIndex.getItemsNear(box)) {
+			if (item.boundingBox.intersectsWith(box)) {
+				collectDroppedItem(produce, item);
+			} else if (isWantedDrop(item)) {
+				windfallOutOfReach = true;
+			}
+		}
+	}
+
+	private void collectDroppedItem(Collection<ItemStack> produce, EntityItem item) {
+		if (isWantedDrop(item)) {
+			produce.add(item.getEntityItem().copy());
+			item.setDead();
+		}
+	}
+
+	private boolean isWantedDrop(EntityItem item) {
+		if (item.isDead) {
+			return false;
+		}
+		ItemStack contained = item.getEntityItem();
+		return isAcceptedGermling(contained) || isWindfall(contained);
+	}
+
 }
@@ -13,14 +13,9 @@ package forestry.farming.logic;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
 import java.util.Stack;
 
 import net.minecraft.block.Block;
-import net.minecraft.entity.Entity;
-import net.minecraft.entity.item.EntityItem;
 import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.AxisAlignedBB;
@@ -39,6 +34,9 @@ import forestry.api.farming.IFarmable;
 import forestry.core.blocks.BlockSoil;
 import forestry.core.config.ForestryBlock;
 import forestry.core.render.SpriteSheet;
+import forestry.core.utils.vect.PackedPositions;
+import forestry.core.utils.vect.PositionQueue;
+import forestry.core.utils.vect.PositionSet;
 import forestry.core.utils.vect.Vect;
 import forestry.core.utils.vect.VectUtil;
 
@@ -92,7 +90,6 @@ public class FarmLogicArboreal extends FarmLogicHomogeneous {
 		return (int) (10 * hydrationModifier);
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public Collection<ItemStack> collect() {
 
@@ -107,20 +104,7 @@ public class FarmLogicArboreal extends FarmLogicHomogeneous {
 		Vect max = min.add(area);
 
 		AxisAlignedBB harvestBox = AxisAlignedBB.getBoundingBox(min.x, min.y, min.z, max.x, getWorld().getHeight(), max.z);
-		List<Entity> list = getWorld().getEntitiesWithinAABB(Entity.class, harvestBox);
-
-		for (Entity entity : list) {
-			if (entity instanceof EntityItem) {
-				EntityItem item = (EntityItem) entity;
-				if (!item.isDead) {
-					ItemStack contained = item.getEntityItem();
-					if (isAcceptedGermling(contained) || isWindfall(contained)) {
-						produce.add(contained.copy());
-						item.setDead();
-					}
-				}
-			}
-		}
+		collectDroppedItems(produce, harvestBox);
 
 		return products;
 	}
@@ -152,7 +136,6 @@ public class FarmLogicArboreal extends FarmLogicHomogeneous {
 
 		World world = getWorld();
 
-		Set<Vect> seen = new HashSet<>();
 		Stack<ICrop> crops = new Stack<>();
 
 		// Determine what type we want to harvest.
@@ -164,7 +147,6 @@ public class FarmLogicArboreal extends FarmLogicHomogeneous {
 			}
 
 			crops.push(crop);
-			seen.add(position);
 			germling = germl;
 			break;
 		}
@@ -173,15 +155,51 @@ public class FarmLogicArboreal extends FarmLogicHomogeneous {
 			return crops;
 		}
 
-		ArrayList<Vect> candidates = processHarvestBlock(germling, crops, seen, position, position);
-		ArrayList<Vect> temp = new ArrayList<>();
-		while (!candidates.isEmpty()) {
-			for (Vect candidate : candidates) {
-				temp.addAll(processHarvestBlock(germling, crops, seen, position, candidate));
+		// Breadth-first search through the tree. Every position is only asked for a crop once,
+		// whether it turned out to be one or not.
+		visited.clear();
+		frontier.clear();
+
+		long start = PackedPositions.pack(position.x, position.y, position.z);
+		visited.add(start);
+		frontier.add(start);
+
+		while (!frontier.isEmpty()) {
+			long current = frontier.poll();
+			int x = PackedPositions.unpackX(current);
+			int y = PackedPositions.unpackY(current);
+			int z = PackedPositions.unpackZ(current);
+
+			for (int i = -1; i < 2; i++) {
+				for (int j = yOffset; j < 2; j++) {
+					for (int k = -1; k < 2; k++) {
+						if (i == 0 && j == 0 && k == 0) {
+							continue;
+						}
+
+						int candidateX = x + i;
+						int candidateY = y + j;
+						int candidateZ = z + k;
+						if (Math.abs(candidateX - position.x) > 5) {
+							continue;
+						}
+						if (Math.abs(candidateZ - position.z) > 5) {
+							continue;
+						}
+
+						long candidate = PackedPositions.pack(candidateX, candidateY, candidateZ);
+						if (!visited.add(candidate)) {
+							continue;
+						}
+
+						ICrop crop = germling.getCropAt(world, candidateX, candidateY, candidateZ);
+						if (crop != null) {
+							crops.push(crop);
+							frontier.add(candidate);
+						}
+					}
+				}
 			}
-			candidates.clear();
-			candidates.addAll(temp);
-			temp.clear();
 		}
 
 		return crops;
@@ -189,44 +207,9 @@ public class FarmLogicArboreal extends FarmLogicHomogeneous {
 
 	protected int yOffset = 0;
 
-	private ArrayList<Vect> processHarvestBlock(IFarmable germling, Stack<ICrop> crops, Set<Vect> seen, Vect start, Vect position) {
-
-		World world = getWorld();
-
-		ArrayList<Vect> candidates = new ArrayList<>();
-
-		// Get additional candidates to return
-		for (int i = -1; i < 2; i++) {
-			for (int j = yOffset; j < 2; j++) {
-				for (int k = -1; k < 2; k++) {
-					Vect candidate = position.add(i, j, k);
-					if (candidate.equals(position)) {
-						continue;
-					}
-					if (Math.abs(candidate.x - start.x) > 5) {
-						continue;
-					}
-					if (Math.abs(candidate.z - start.z) > 5) {
-						continue;
-					}
-
-					// See whether the given position has already been processed
-					if (seen.contains(candidate)) {
-						continue;
-					}
-
-					ICrop crop = germling.getCropAt(world, candidate.x, candidate.y, candidate.z);
-					if (crop != null) {
-						crops.push(crop);
-						candidates.add(candidate);
-						seen.add(candidate);
-					}
-				}
-			}
-		}
-
-		return candidates;
-	}
+	// Reused between harvests, only ever touched from the server thread
+	private final PositionSet visited = new PositionSet();
+	private final PositionQueue frontier = new PositionQueue();
 
 	@Override
 	protected boolean maintainGermlings(int x, int ySaplings, int z, FarmDirection direction, int extent) {
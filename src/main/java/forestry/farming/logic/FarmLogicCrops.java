@@ -12,11 +12,8 @@ package forestry.farming.logic;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 import java.util.Stack;
 
-import net.minecraft.entity.Entity;
-import net.minecraft.entity.item.EntityItem;
 import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.AxisAlignedBB;
@@ -60,7 +57,8 @@ public abstract class FarmLogicCrops extends FarmLogicWatered {
 		return false;
 	}
 
-	private boolean isWindfall(ItemStack itemstack) {
+	@Override
+	protected boolean isWindfall(ItemStack itemstack) {
 		for (IFarmable germling : seeds) {
 			if (germling.isWindfall(itemstack)) {
 				return true;
@@ -69,7 +67,6 @@ public abstract class FarmLogicCrops extends FarmLogicWatered {
 		return false;
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public Collection<ItemStack> collect() {
 
@@ -84,23 +81,7 @@ public abstract class FarmLogicCrops extends FarmLogicWatered {
 		Vect max = min.add(area);
 
 		AxisAlignedBB harvestBox = AxisAlignedBB.getBoundingBox(min.x, min.y, min.z, max.x, max.y, max.z);
-		List<Entity> list = housing.getWorld().getEntitiesWithinAABB(Entity.class, harvestBox);
-
-		int i;
-		for (i = 0; i < list.size(); i++) {
-			Entity entity = list.get(i);
-
-			if (entity instanceof EntityItem) {
-				EntityItem item = (EntityItem) entity;
-				if (!item.isDead) {
-					ItemStack contained = item.getEntityItem();
-					if (isAcceptedGermling(contained) || isWindfall(contained)) {
-						produce.add(contained.copy());
-						item.setDead();
-					}
-				}
-			}
-		}
+		collectDroppedItems(produce, harvestBox);
 
 		return products;
 	}
@@ -59,6 +59,7 @@ public abstract class FarmLogicHomogeneous extends FarmLogic {
 		return false;
 	}
 
+	@Override
 	protected boolean isWindfall(ItemStack itemstack) {
 		for (IFarmable germling : germlings) {
 			if (germling.isWindfall(itemstack)) {
@@ -94,6 +94,16 @@ public class FakeFarmController implements IFarmController {
 		return false;
 	}
 
+	@Override
+	public int doWork(int maxOperations) {
+		return 0;
+	}
+
+	@Override
+	public boolean idle(int ticks) {
+		return false;
+	}
+
 	@Override
 	public boolean hasLiquid(FluidStack liquid) {
 		return false;
@@ -22,12 +22,10 @@ import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
 
-import net.minecraft.block.Block;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.ChunkCoordinates;
-import net.minecraft.util.StatCollector;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.BiomeGenBase;
 
@@ -61,15 +59,15 @@ import forestry.core.multiblock.CoordTriplet;
 import forestry.core.multiblock.IMultiblockPart;
 import forestry.core.multiblock.MultiblockControllerBase;
 import forestry.core.multiblock.MultiblockTileEntityBase;
-import forestry.core.multiblock.MultiblockValidationException;
+import forestry.core.multiblock.MultiblockValidationError;
 import forestry.core.multiblock.rectangular.RectangularMultiblockControllerBase;
 import forestry.core.network.DataInputStreamForestry;
 import forestry.core.network.DataOutputStreamForestry;
 import forestry.core.network.PacketGuiUpdate;
 import forestry.core.proxy.Proxies;
+import forestry.core.utils.InventoryUtil;
 import forestry.core.utils.Log;
 import forestry.core.utils.vect.Vect;
-import forestry.core.utils.vect.VectUtil;
 import forestry.farming.FarmHelper;
 import forestry.farming.FarmTarget;
 import forestry.farming.gui.IFarmLedgerDelegate;
@@ -106,6 +104,8 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 
 	private final Map<FarmDirection, List<FarmTarget>> targets = new EnumMap<>(FarmDirection.class);
 	private int allowedExtent = 0;
+	// bricks around the farm, targets are only rebuilt when this reports a change to the platform
+	private FarmHeightMap heightMap;
 
 	private IFarmLogic harvestProvider; // The farm logic which supplied the pending crops.
 	private final Stack<ICrop> pendingCrops = new Stack<>();
@@ -127,6 +127,10 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 
 	// the number of work ticks that this farm has had no power
 	private int noPowerTime = 0;
+	private static final int NO_POWER_SLEEP_TICKS = 100;
+	private static final int NO_FERTILIZER_SLEEP_TICKS = 100;
+	// columns of the platform checked for changes that went by without a block update, per second
+	private static final int PLATFORM_VERIFY_COLUMNS = 16;
 
 	private BiomeGenBase cachedBiome;
 
@@ -197,8 +201,11 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 	}
 
 	@Override
-	protected void isMachineWhole() throws MultiblockValidationException {
-		super.isMachineWhole();
+	protected MultiblockValidationError isMachineWhole() {
+		MultiblockValidationError error = super.isMachineWhole();
+		if (error != null) {
+			return error;
+		}
 
 		boolean hasGearbox = false;
 		for (IMultiblockPart part : connectedParts) {
@@ -209,14 +216,34 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 		}
 
 		if (!hasGearbox) {
-			throw new MultiblockValidationException(StatCollector.translateToLocal("for.multiblock.farm.error.needGearbox"));
+			return new MultiblockValidationError("for.multiblock.farm.error.needGearbox");
 		}
+
+		return null;
+	}
+
+	@Override
+	protected void onMachineAssembled() {
+		super.onMachineAssembled();
+		resetFarmlandTargets();
+	}
+
+	@Override
+	protected void onMachineRestored() {
+		super.onMachineRestored();
+		resetFarmlandTargets();
+	}
+
+	@Override
+	protected void onMachinePaused() {
+		super.onMachinePaused();
+		resetFarmlandTargets();
 	}
 
 	@Override
 	protected void onMachineDisassembled() {
 		super.onMachineDisassembled();
-		targets.clear();
+		resetFarmlandTargets();
 	}
 
 	@Override
@@ -261,7 +288,7 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 
 	@Override
 	protected void onAssimilated(MultiblockControllerBase assimilator) {
-
+		resetFarmlandTargets();
 	}
 
 	@Override
@@ -270,6 +297,10 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 
 		if (updateOnInterval(20)) {
 			inventory.drainCan(tankManager);
+
+			if (heightMap != null) {
+				heightMap.verify(PLATFORM_VERIFY_COLUMNS);
+			}
 		}
 
 		boolean hasPower = false;
@@ -291,6 +322,12 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 				noPowerTime++;
 			} else {
 				getErrorLogic().setCondition(true, EnumErrorCode.NOPOWER);
+
+				// Without power and products to hand out there is nothing to do until a gearbox receives energy.
+				// The gearbox and inventory changes wake the farm up, the timeout is just a safety net.
+				if (!hasProductsToHandOut()) {
+					sleep(SleepState.WaitingForPower, NO_POWER_SLEEP_TICKS);
+				}
 			}
 		}
 
@@ -459,8 +496,48 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 
 	@Override
 	public boolean doWork() {
-		if (targets.isEmpty() || updateOnInterval(400)) {
+		return doWork(1) > 0;
+	}
+
+	@Override
+	public int doWork(int maxOperations) {
+		// Keep going until we run out of cycles or a full cultivate and harvest round did nothing.
+		int operations = 0;
+		int idleCycles = 0;
+		for (int cycle = 0; cycle < maxOperations && idleCycles < 2; cycle++) {
+			if (doWorkCycle()) {
+				operations++;
+				idleCycles = 0;
+			} else {
+				idleCycles++;
+			}
+		}
+		return operations;
+	}
+
+	@Override
+	public boolean idle(int ticks) {
+		if (!isAwake()) {
+			// already waiting for something more specific
+			return true;
+		}
+		if (hasProductsToHandOut()) {
+			return false;
+		}
+		sleep(SleepState.WaitingForTick, ticks);
+		return true;
+	}
+
+	// Sleeping stops the hatches, so the farm stays awake while they have something to export
+	private boolean hasProductsToHandOut() {
+		return !pendingProduce.isEmpty() || !InventoryUtil.isEmpty(inventory, FarmInventory.SLOT_PRODUCTION_1, FarmInventory.SLOT_PRODUCTION_COUNT);
+	}
+
+	private boolean doWorkCycle() {
+		if (heightMap == null) {
 			setUpFarmlandTargets();
+		} else if (heightMap.checkChanged()) {
+			createFarmlandTargets();
 		}
 
 		IErrorLogic errorLogic = getErrorLogic();
@@ -473,6 +550,10 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 
 		boolean hasFertilizer = fertilizerManager.maintainFertilizer(inventory);
 		if (errorLogic.setCondition(!hasFertilizer, EnumErrorCode.NOFERTILIZER)) {
+			// Nothing grows without fertilizer, wait for it to be put into the inventory.
+			if (!hasProductsToHandOut()) {
+				sleep(SleepState.WaitingForInventory, NO_FERTILIZER_SLEEP_TICKS);
+			}
 			return false;
 		}
 
@@ -536,9 +617,15 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 		return farmWorkStatus.didWork;
 	}
 
-	private void setUpFarmlandTargets() {
-		Vect targetStart = new Vect(getCoords());
+	private void resetFarmlandTargets() {
+		targets.clear();
+		if (heightMap != null) {
+			heightMap.release();
+			heightMap = null;
+		}
+	}
 
+	private void setUpFarmlandTargets() {
 		CoordTriplet max = getMaximumCoord();
 		CoordTriplet min = getMinimumCoord();
 
@@ -548,11 +635,28 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 		// Set the maximum allowed extent.
 		allowedExtent = Math.max(sizeNorthSouth, sizeEastWest) * Config.farmSize + 1;
 
-		createTargets(worldObj, targets, targetStart, allowedExtent, sizeNorthSouth, sizeEastWest);
-		setExtents(worldObj, targets);
+		// The platform is searched for in a band from 3 blocks below to 2 blocks above the center of the farm, see getGroundPosition
+		int groundMinY = getCoords()[1] - 3;
+		heightMap = new FarmHeightMap(worldObj, min.x - allowedExtent - 1, groundMinY, min.z - allowedExtent - 1, max.x + allowedExtent + 1, max.z + allowedExtent + 1);
+
+		createFarmlandTargets();
 	}
 
-	private static void createTargets(World world, Map<FarmDirection, List<FarmTarget>> targets, Vect targetStart, final int allowedExtent, final int farmSizeNorthSouth, final int farmSizeEastWest) {
+	private void createFarmlandTargets() {
+		Vect targetStart = new Vect(getCoords());
+
+		CoordTriplet max = getMaximumCoord();
+		CoordTriplet min = getMinimumCoord();
+
+		int sizeNorthSouth = Math.abs(max.z - min.z) + 1;
+		int sizeEastWest = Math.abs(max.x - min.x) + 1;
+
+		createTargets(worldObj, heightMap, targets, targetStart, allowedExtent, sizeNorthSouth, sizeEastWest);
+		setExtents(heightMap, targets);
+	}
+
+	private static void createTargets(World world, FarmHeightMap heightMap, Map<FarmDirection, List<FarmTarget>> targets, Vect targetStart, final int allowedExtent, final int farmSizeNorthSouth, final int farmSizeEastWest) {
+		targets.clear();
 
 		for (FarmDirection farmSide : FarmDirection.values()) {
 
@@ -570,7 +674,7 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 
 			Vect targetLocation = FarmHelper.getFarmMultiblockCorner(world, targetStart, farmSide, layoutDirection);
 			Vect firstLocation = targetLocation.add(farmSide);
-			Vect firstGroundPosition = getGroundPosition(world, firstLocation);
+			Vect firstGroundPosition = getGroundPosition(heightMap, firstLocation);
 			if (firstGroundPosition == null) {
 				continue;
 			}
@@ -586,8 +690,7 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 					targetLimit = targetMaxLimit - i - 1;
 				}
 
-				Block platform = VectUtil.getBlock(world, groundLocation);
-				if (!FarmHelper.bricks.contains(platform)) {
+				if (!heightMap.isBrick(groundLocation.getX(), groundLocation.getY(), groundLocation.getZ())) {
 					break;
 				}
 
@@ -599,12 +702,11 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 		}
 	}
 
-	private static Vect getGroundPosition(World world, Vect targetPosition) {
+	private static Vect getGroundPosition(FarmHeightMap heightMap, Vect targetPosition) {
 		for (int yOffset = 2; yOffset > -4; yOffset--) {
-			Vect position = targetPosition.add(0, yOffset, 0);
-			Block ground = VectUtil.getBlock(world, position);
-			if (FarmHelper.bricks.contains(ground)) {
-				return position;
+			int y = targetPosition.getY() + yOffset;
+			if (heightMap.isBrick(targetPosition.getX(), y, targetPosition.getZ())) {
+				return new Vect(targetPosition.getX(), y, targetPosition.getZ());
 			}
 		}
 		return null;
@@ -619,13 +721,13 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 		return false;
 	}
 
-	private static void setExtents(World worldObj, Map<FarmDirection, List<FarmTarget>> targets) {
+	private static void setExtents(FarmHeightMap heightMap, Map<FarmDirection, List<FarmTarget>> targets) {
 		for (List<FarmTarget> targetsList : targets.values()) {
 			if (!targetsList.isEmpty()) {
-				Vect groundPosition = getGroundPosition(worldObj, targetsList.get(0).getStart());
+				Vect groundPosition = getGroundPosition(heightMap, targetsList.get(0).getStart());
 
 				for (FarmTarget target : targetsList) {
-					target.setExtentAndYOffset(worldObj, groundPosition);
+					target.setExtentAndYOffset(heightMap, groundPosition);
 				}
 			}
 		}
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.farming.multiblock;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.World;
+
+import forestry.core.utils.WorldAccessAdapter;
+import forestry.farming.FarmHelper;
+
+/**
+ * Remembers which blocks in the working area of a farm are platform bricks.
+ * Each column stores one bit per block of a small band of heights around the farm, filled in the first time the column is asked for.
+ * Block changes which turn a brick into something else or the other way around forget the column again and mark the map as changed,
+ * so the farm only has to rebuild its targets when its platform actually changed.
+ */
+public class FarmHeightMap {
+	private static final Map<World, Watcher> watchers = new WeakHashMap<>();
+
+	/** Number of heights tracked per column, the band the farm searches for its platform in. */
+	public static final int HEIGHT = 6;
+	private static final byte KNOWN = 1 << HEIGHT;
+
+	private final World world;
+	private final int minX;
+	private final int minY;
+	private final int minZ;
+	private final int sizeX;
+	private final int sizeZ;
+	private final byte[] columns;
+
+	private boolean changed;
+	private int verifyIndex;
+
+	public FarmHeightMap(World world, int minX, int minY, int minZ, int maxX, int maxZ) {
+		this.world = world;
+		this.minX = minX;
+		this.minY = minY;
+		this.minZ = minZ;
+		this.sizeX = maxX - minX + 1;
+		this.sizeZ = maxZ - minZ + 1;
+		this.columns = new byte[sizeX * sizeZ];
+
+		Watcher watcher = watchers.get(world);
+		if (watcher == null) {
+			watcher = new Watcher();
+			watchers.put(world, watcher);
+			world.addWorldAccess(watcher);
+		}
+		watcher.add(this);
+	}
+
+	/**
+	 * Stops tracking block changes for this map.
+	 */
+	public void release() {
+		Watcher watcher = watchers.get(world);
+		if (watcher != null) {
+			watcher.remove(this);
+			if (watcher.isEmpty()) {
+				watchers.remove(world);
+				world.removeWorldAccess(watcher);
+			}
+		}
+	}
+
+	public boolean isBrick(int x, int y, int z) {
+		int index = getIndex(x, z);
+		int height = y - minY;
+		if (index < 0 || height < 0 || height >= HEIGHT) {
+			return FarmHelper.bricks.contains(world.getBlock(x, y, z));
+		}
+
+		byte column = columns[index];
+		if ((column & KNOWN) == 0) {
+			column = scanColumn(x, z);
+			columns[index] = column;
+		}
+		return (column & (1 << height)) != 0;
+	}
+
+	/**
+	 * @return true if the platform changed since the last call.
+	 */
+	public boolean checkChanged() {
+		boolean wasChanged = changed;
+		changed = false;
+		return wasChanged;
+	}
+
+	/**
+	 * Rescans the next few known columns, in case a block changed without a block update.
+	 * Marks the map as changed if any of them turned out different.
+	 */
+	public void verify(int columnCount) {
+		for (int i = 0; i < columnCount; i++) {
+			verifyIndex = (verifyIndex + 1) % columns.length;
+			byte column = columns[verifyIndex];
+			if ((column & KNOWN) == 0) {
+				continue;
+			}
+
+			int x = minX + verifyIndex / sizeZ;
+			int z = minZ + verifyIndex % sizeZ;
+			byte scanned = scanColumn(x, z);
+			if (scanned != column) {
+				columns[verifyIndex] = scanned;
+				changed = true;
+			}
+		}
+	}
+
+	private byte scanColumn(int x, int z) {
+		byte column = KNOWN;
+		for (int height = 0; height < HEIGHT; height++) {
+			if (FarmHelper.bricks.contains(world.getBlock(x, minY + height, z))) {
+				column |= 1 << height;
+			}
+		}
+		return column;
+	}
+
+	private int getIndex(int x, int z) {
+		int offsetX = x - minX;
+		int offsetZ = z - minZ;
+		if (offsetX < 0 || offsetX >= sizeX || offsetZ < 0 || offsetZ >= sizeZ) {
+			return -1;
+		}
+		return offsetX * sizeZ + offsetZ;
+	}
+
+	private void onBlockChanged(int x, int y, int z) {
+		int index = getIndex(x, z);
+		int height = y - minY;
+		if (index < 0 || height < 0 || height >= HEIGHT) {
+			return;
+		}
+
+		byte column = columns[index];
+		if ((column & KNOWN) == 0) {
+			return;
+		}
+
+		boolean wasBrick = (column & (1 << height)) != 0;
+		boolean isBrick = FarmHelper.bricks.contains(world.getBlock(x, y, z));
+		if (wasBrick != isBrick) {
+			columns[index] = 0;
+			changed = true;
+		}
+	}
+
+	private static class Watcher extends WorldAccessAdapter {
+		/** Height maps by the chunks they overlap, so a block update only visits the farms in its own chunk. */
+		private final Map<Long, Set<FarmHeightMap>> heightMapsByChunk = new HashMap<>();
+
+		private void add(FarmHeightMap heightMap) {
+			for (int chunkX = heightMap.minX >> 4; chunkX <= (heightMap.minX + heightMap.sizeX - 1) >> 4; chunkX++) {
+				for (int chunkZ = heightMap.minZ >> 4; chunkZ <= (heightMap.minZ + heightMap.sizeZ - 1) >> 4; chunkZ++) {
+					long chunkKey = ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ);
+					Set<FarmHeightMap> heightMaps = heightMapsByChunk.get(chunkKey);
+					if (heightMaps == null) {
+						heightMaps = Collections.newSetFromMap(new WeakHashMap<FarmHeightMap, Boolean>());
+						heightMapsByChunk.put(chunkKey, heightMaps);
+					}
+					heightMaps.add(heightMap);
+				}
+			}
+		}
+
+		private void remove(FarmHeightMap heightMap) {
+			for (int chunkX = heightMap.minX >> 4; chunkX <= (heightMap.minX + heightMap.sizeX - 1) >> 4; chunkX++) {
+				for (int chunkZ = heightMap.minZ >> 4; chunkZ <= (heightMap.minZ + heightMap.sizeZ - 1) >> 4; chunkZ++) {
+					long chunkKey = ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ);
+					Set<FarmHeightMap> heightMaps = heightMapsByChunk.get(chunkKey);
+					if (heightMaps != null) {
+						heightMaps.remove(heightMap);
+						if (heightMaps.isEmpty()) {
+							heightMapsByChunk.remove(chunkKey);
+						}
+					}
+				}
+			}
+		}
+
+		private boolean isEmpty() {
+			return heightMapsByChunk.isEmpty();
+		}
+
+		@Override
+		public void markBlockForUpdate(int x, int y, int z) {
+			Set<FarmHeightMap> heightMaps = heightMapsByChunk.get(ChunkCoordIntPair.chunkXZ2Int(x >> 4, z >> 4));
+			if (heightMaps == null) {
+				return;
+			}
+			for (FarmHeightMap heightMap : heightMaps) {
+				heightMap.onBlockChanged(x, y, z);
+			}
+		}
+	}
+}
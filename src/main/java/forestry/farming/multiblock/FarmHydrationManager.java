@@ -30,22 +30,33 @@ public class FarmHydrationManager implements IFarmLedgerDelegate, INBTTagable, I
 	private final IClimatised climatised;
 	private int hydrationDelay = 0;
 	private int ticksSinceRainfall = 0;
+	private long lastUpdateTime = -1;
 
 	public FarmHydrationManager(IClimatised climatised) {
 		this.climatised = climatised;
 	}
 
 	public void updateServer(World world) {
+		// The farm may have slept since the last update, count all the ticks that passed since then
+		long worldTime = world.getTotalWorldTime();
+		int elapsedTicks = 1;
+		if (lastUpdateTime >= 0 && worldTime > lastUpdateTime) {
+			elapsedTicks = (int) Math.min(worldTime - lastUpdateTime, Integer.MAX_VALUE);
+		}
+		lastUpdateTime = worldTime;
+
 		if (world.isRaining()) {
 			if (hydrationDelay > 0) {
-				hydrationDelay--;
+				hydrationDelay = Math.max(0, hydrationDelay - elapsedTicks);
 			} else {
 				ticksSinceRainfall = 0;
 			}
 		} else {
 			hydrationDelay = DELAY_HYDRATION;
-			if (ticksSinceRainfall < Integer.MAX_VALUE) {
-				ticksSinceRainfall++;
+			if (ticksSinceRainfall < Integer.MAX_VALUE - elapsedTicks) {
+				ticksSinceRainfall += elapsedTicks;
+			} else {
+				ticksSinceRainfall = Integer.MAX_VALUE;
 			}
 		}
 	}
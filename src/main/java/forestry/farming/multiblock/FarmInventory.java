@@ -26,6 +26,7 @@ import forestry.core.fluids.FluidHelper;
 import forestry.core.fluids.TankManager;
 import forestry.core.inventory.InventoryAdapterRestricted;
 import forestry.core.inventory.wrappers.InventoryMapper;
+import forestry.core.multiblock.MultiblockControllerBase.SleepState;
 import forestry.core.proxy.Proxies;
 import forestry.core.utils.InventoryUtil;
 import forestry.core.utils.ItemStackUtil;
@@ -64,6 +65,12 @@ public class FarmInventory extends InventoryAdapterRestricted implements IFarmIn
 		this.fertilizerInventory = new InventoryMapper(this, SLOT_FERTILIZER, SLOT_FERTILIZER_COUNT);
 	}
 
+	@Override
+	public void setInventorySlotContents(int slotId, ItemStack itemstack) {
+		super.setInventorySlotContents(slotId, itemstack);
+		farmController.wakeUp(SleepState.WaitingForInventory);
+	}
+
 	@Override
 	public boolean canSlotAccept(int slotIndex, ItemStack itemStack) {
 		if (SlotUtil.isSlotInRange(slotIndex, SLOT_FERTILIZER, SLOT_FERTILIZER_COUNT)) {
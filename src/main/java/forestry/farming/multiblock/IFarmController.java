@@ -25,4 +25,19 @@ public interface IFarmController extends IFarmHousing, ISocketable, IClimatised,
 	IInventoryAdapter getInternalInventory();
 
 	ITankManager getTankManager();
+
+	/**
+	 * Runs several work cycles in a row, as paid for by a gearbox.
+	 * Each cycle culls one pending crop or does one cultivation or harvest pass, exactly like doWork().
+	 * @param maxOperations the maximum number of cycles to run.
+	 * @return the number of cycles which did work.
+	 */
+	int doWork(int maxOperations);
+
+	/**
+	 * Skips the farm's updates for the given number of ticks after a gearbox found no work,
+	 * unless the farm still has products to hand out.
+	 * @return true if the farm is sleeping now.
+	 */
+	boolean idle(int ticks);
 }
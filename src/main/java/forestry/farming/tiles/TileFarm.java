@@ -16,7 +16,6 @@ import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.ChunkCoordinates;
-import net.minecraft.util.StatCollector;
 
 import forestry.api.circuits.ICircuitSocketType;
 import forestry.api.core.ForestryAPI;
@@ -28,7 +27,7 @@ import forestry.core.config.Config;
 import forestry.core.gui.IHintSource;
 import forestry.core.inventory.IInventoryAdapter;
 import forestry.core.multiblock.MultiblockControllerBase;
-import forestry.core.multiblock.MultiblockValidationException;
+import forestry.core.multiblock.MultiblockValidationError;
 import forestry.core.multiblock.rectangular.RectangularMultiblockTileEntityBase;
 import forestry.core.network.DataInputStreamForestry;
 import forestry.core.network.DataOutputStreamForestry;
@@ -139,17 +138,19 @@ public abstract class TileFarm extends RectangularMultiblockTileEntityBase imple
 	}
 
 	@Override
-	public void isGoodForExteriorLevel(int level) throws MultiblockValidationException {
+	public MultiblockValidationError isGoodForExteriorLevel(int level) {
 		if (level == 2 && !(this instanceof TileFarmPlain)) {
-			throw new MultiblockValidationException(StatCollector.translateToLocal("for.multiblock.farm.error.needPlainBand"));
+			return new MultiblockValidationError("for.multiblock.farm.error.needPlainBand");
 		}
+		return null;
 	}
 
 	@Override
-	public void isGoodForInterior() throws MultiblockValidationException {
+	public MultiblockValidationError isGoodForInterior() {
 		if (!(this instanceof TileFarmPlain)) {
-			throw new MultiblockValidationException(StatCollector.translateToLocal("for.multiblock.farm.error.needPlainInterior"));
+			return new MultiblockValidationError("for.multiblock.farm.error.needPlainInterior");
 		}
+		return null;
 	}
 
 	/* IHintSource */
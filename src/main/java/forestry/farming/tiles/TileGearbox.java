@@ -15,6 +15,8 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.common.util.ForgeDirection;
 
 import forestry.api.farming.IFarmComponent;
+import forestry.core.config.Config;
+import forestry.core.multiblock.MultiblockControllerBase.SleepState;
 import forestry.core.tiles.IPowerHandler;
 import forestry.energy.EnergyManager;
 import forestry.farming.multiblock.IFarmController;
@@ -71,13 +73,25 @@ public class TileGearbox extends TileFarm implements IPowerHandler, IFarmCompone
 
 		if (workCounter >= WORK_CYCLES && (tickCount % 5 == 0)) {
 			IFarmController farmController = getFarmController();
-			if (farmController.doWork()) {
+
+			// The first operation has been paid for above, surplus energy buys more up to the configured batch size.
+			int extraOperations = Math.min(Config.farmWorkBatchSize - 1, energyManager.getTotalEnergyStored() / ENERGY_PER_OPERATION);
+			int operations = farmController.doWork(1 + extraOperations);
+			if (operations > 0) {
+				if (operations > 1) {
+					energyManager.drainEnergy((operations - 1) * ENERGY_PER_OPERATION);
+				}
 				workCounter = 0;
 				previousDelays = 0;
 			} else {
 				// If the central TE doesn't have work, we add to the activation delay to throttle the CPU usage.
-				activationDelay = 10 * previousDelays < 120 ? 10 * previousDelays : 120;
+				int delay = 10 * previousDelays < 120 ? 10 * previousDelays : 120;
 				previousDelays++; // First delay is free!
+
+				// A farm without products to hand out sleeps through the delay instead of ticking all its parts.
+				if (!farmController.idle(delay)) {
+					activationDelay = delay;
+				}
 			}
 		}
 	}
@@ -95,7 +109,11 @@ public class TileGearbox extends TileFarm implements IPowerHandler, IFarmCompone
 
 	@Override
 	public int receiveEnergy(ForgeDirection from, int maxReceive, boolean simulate) {
-		return energyManager.receiveEnergy(from, maxReceive, simulate);
+		int received = energyManager.receiveEnergy(from, maxReceive, simulate);
+		if (received > 0 && !simulate && isConnected()) {
+			getMultiblockController().wakeUp(SleepState.WaitingForPower);
+		}
+		return received;
 	}
 
 	@Override
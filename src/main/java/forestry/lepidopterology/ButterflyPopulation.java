@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.lepidopterology;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.World;
+
+import forestry.core.utils.WorldAccessAdapter;
+import forestry.lepidopterology.entities.EntityButterfly;
+
+/**
+ * Butterflies of a server world, counted per world and per chunk as they are added to and removed from it.
+ * Lets spawning check the butterfly limits without going through all loaded entities.
+ */
+public class ButterflyPopulation extends WorldAccessAdapter {
+	private static final Map<World, ButterflyPopulation> populations = new WeakHashMap<>();
+
+	private final Map<EntityButterfly, Long> butterflyChunks = new HashMap<>();
+	private final Map<Long, Integer> chunkCounts = new HashMap<>();
+
+	public static ButterflyPopulation getPopulation(World world) {
+		return populations.get(world);
+	}
+
+	public static void onWorldLoad(World world) {
+		if (world.isRemote || populations.containsKey(world)) {
+			return;
+		}
+		ButterflyPopulation population = new ButterflyPopulation();
+		populations.put(world, population);
+		world.addWorldAccess(population);
+	}
+
+	public static void onWorldUnload(World world) {
+		ButterflyPopulation population = populations.remove(world);
+		if (population != null) {
+			world.removeWorldAccess(population);
+		}
+	}
+
+	/**
+	 * @return the number of butterflies in the world.
+	 */
+	public static int countButterflies(World world) {
+		ButterflyPopulation population = populations.get(world);
+		if (population == null) {
+			return world.countEntities(EntityButterfly.class);
+		}
+		return population.butterflyChunks.size();
+	}
+
+	/**
+	 * @return the number of butterflies in the chunk, 0 if the world is not counted.
+	 */
+	public static int countButterflies(World world, int chunkX, int chunkZ) {
+		ButterflyPopulation population = populations.get(world);
+		if (population == null) {
+			return 0;
+		}
+		Integer count = population.chunkCounts.get(ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ));
+		return count == null ? 0 : count;
+	}
+
+	private void setChunk(EntityButterfly butterfly, int chunkX, int chunkZ) {
+		long chunkKey = ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ);
+		Long previousKey = butterflyChunks.put(butterfly, chunkKey);
+		if (previousKey != null) {
+			if (previousKey == chunkKey) {
+				return;
+			}
+			removeFromChunk(previousKey);
+		}
+
+		Integer count = chunkCounts.get(chunkKey);
+		chunkCounts.put(chunkKey, count == null ? 1 : count + 1);
+	}
+
+	/**
+	 * Moves a counted butterfly to its new chunk. Butterflies which are not in the world yet are counted once they are added.
+	 */
+	public void onButterflyMoved(EntityButterfly butterfly, int chunkX, int chunkZ) {
+		if (butterflyChunks.containsKey(butterfly)) {
+			setChunk(butterfly, chunkX, chunkZ);
+		}
+	}
+
+	private void removeFromChunk(long chunkKey) {
+		Integer count = chunkCounts.get(chunkKey);
+		if (count == null || count <= 1) {
+			chunkCounts.remove(chunkKey);
+		} else {
+			chunkCounts.put(chunkKey, count - 1);
+		}
+	}
+
+	/* IWorldAccess */
+	@Override
+	public void onEntityCreate(Entity entity) {
+		if (entity instanceof EntityButterfly) {
+			setChunk((EntityButterfly) entity, MathHelper.floor_double(entity.posX) >> 4, MathHelper.floor_double(entity.posZ) >> 4);
+		}
+	}
+
+	@Override
+	public void onEntityDestroy(Entity entity) {
+		if (entity instanceof EntityButterfly) {
+			Long chunkKey = butterflyChunks.remove(entity);
+			if (chunkKey != null) {
+				removeFromChunk(chunkKey);
+			}
+		}
+	}
+}
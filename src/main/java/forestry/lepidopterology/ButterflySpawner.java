@@ -16,7 +16,6 @@ import forestry.api.arboriculture.ILeafTickHandler;
 import forestry.api.arboriculture.ITree;
 import forestry.api.lepidopterology.IButterfly;
 import forestry.core.utils.Log;
-import forestry.lepidopterology.entities.EntityButterfly;
 import forestry.plugins.PluginLepidopterology;
 
 public class ButterflySpawner implements ILeafTickHandler {
@@ -33,7 +32,11 @@ public class ButterflySpawner implements ILeafTickHandler {
 			return false;
 		}
 		
-		if (world.countEntities(EntityButterfly.class) > PluginLepidopterology.spawnConstraint) {
+		if (ButterflyPopulation.countButterflies(world) > PluginLepidopterology.spawnConstraint) {
+			return false;
+		}
+
+		if (PluginLepidopterology.chunkSpawnConstraint > 0 && ButterflyPopulation.countButterflies(world, x >> 4, z >> 4) > PluginLepidopterology.chunkSpawnConstraint) {
 			return false;
 		}
 		
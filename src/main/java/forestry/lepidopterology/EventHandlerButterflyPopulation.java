@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.lepidopterology;
+
+import net.minecraftforge.event.entity.EntityEvent;
+import net.minecraftforge.event.world.WorldEvent;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+
+import forestry.lepidopterology.entities.EntityButterfly;
+
+public class EventHandlerButterflyPopulation {
+	@SubscribeEvent
+	public void onWorldLoad(WorldEvent.Load event) {
+		ButterflyPopulation.onWorldLoad(event.world);
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		ButterflyPopulation.onWorldUnload(event.world);
+	}
+
+	@SubscribeEvent
+	public void onEntityEnteringChunk(EntityEvent.EnteringChunk event) {
+		if (!(event.entity instanceof EntityButterfly)) {
+			return;
+		}
+
+		ButterflyPopulation population = ButterflyPopulation.getPopulation(event.entity.worldObj);
+		if (population != null) {
+			population.onButterflyMoved((EntityButterfly) event.entity, event.newChunkX, event.newChunkZ);
+		}
+	}
+}
@@ -13,6 +13,7 @@ package forestry.lepidopterology.entities;
 import forestry.api.genetics.IPollinatable;
 import forestry.api.lepidopterology.IButterflyNursery;
 import forestry.core.utils.GeneticsUtil;
+import forestry.lepidopterology.ButterflyPopulation;
 import forestry.plugins.PluginLepidopterology;
 
 public class AIButterflyMate extends AIButterflyInteract {
@@ -34,7 +35,7 @@ public class AIButterflyMate extends AIButterflyInteract {
 			return false;
 		}
 
-		if (entity.worldObj.countEntities(EntityButterfly.class) > PluginLepidopterology.spawnConstraint) {
+		if (ButterflyPopulation.countButterflies(entity.worldObj) > PluginLepidopterology.spawnConstraint) {
 			return false;
 		}
 
@@ -24,6 +24,7 @@ import com.mojang.authlib.GameProfile;
 
 import forestry.api.genetics.AlleleManager;
 import forestry.api.genetics.IAllele;
+import forestry.api.genetics.IBreedingTracker;
 import forestry.api.genetics.IChromosomeType;
 import forestry.api.genetics.IIndividual;
 import forestry.api.genetics.IMutation;
@@ -217,6 +218,7 @@ public class ButterflyHelper extends SpeciesRoot implements IButterflyRoot {
 		}
 
 		butterflyMutations.add((IButterflyMutation) mutation);
+		onMutationRegistered(mutation);
 	}
 
 	@Override
@@ -230,6 +232,11 @@ public class ButterflyHelper extends SpeciesRoot implements IButterflyRoot {
 	/* BREEDING TRACKER */
 	@Override
 	public ILepidopteristTracker getBreedingTracker(World world, GameProfile player) {
+		IBreedingTracker cachedTracker = getCachedBreedingTracker(world, player);
+		if (cachedTracker instanceof ILepidopteristTracker) {
+			return (ILepidopteristTracker) cachedTracker;
+		}
+
 		String filename = "LepidopteristTracker." + (player == null ? "common" : player.getId());
 		LepidopteristTracker tracker = (LepidopteristTracker) world.loadItemData(LepidopteristTracker.class, filename);
 
@@ -239,6 +246,7 @@ public class ButterflyHelper extends SpeciesRoot implements IButterflyRoot {
 			world.setItemData(filename, tracker);
 		}
 
+		cacheBreedingTracker(world, player, tracker);
 		return tracker;
 	}
 
@@ -39,6 +39,7 @@ import forestry.core.network.PacketFXSignal;
 import forestry.core.proxy.Proxies;
 import forestry.core.render.TextureManager;
 import forestry.core.utils.EntityUtil;
+import forestry.lepidopterology.ButterflyPopulation;
 import forestry.lepidopterology.entities.EntityButterfly;
 import forestry.lepidopterology.genetics.ButterflyGenome;
 import forestry.plugins.PluginLepidopterology;
@@ -129,7 +130,7 @@ public class ItemButterflyGE extends ItemGE {
 			return false;
 		}
 
-		if (entityItem.worldObj.countEntities(EntityButterfly.class) > PluginLepidopterology.entityConstraint) {
+		if (ButterflyPopulation.countButterflies(entityItem.worldObj) > PluginLepidopterology.entityConstraint) {
 			return false;
 		}
 
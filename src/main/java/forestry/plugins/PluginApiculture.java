@@ -74,6 +74,7 @@ import forestry.apiculture.blocks.BlockBeehives;
 import forestry.apiculture.blocks.BlockCandle;
 import forestry.apiculture.blocks.BlockStump;
 import forestry.apiculture.commands.CommandBee;
+import forestry.apiculture.flowers.EventHandlerFlowerIndex;
 import forestry.apiculture.flowers.FlowerRegistry;
 import forestry.apiculture.genetics.BeeBranchDefinition;
 import forestry.apiculture.genetics.BeeDefinition;
@@ -215,6 +216,7 @@ public class PluginApiculture extends ForestryPlugin {
 		super.preInit();
 
 		MinecraftForge.EVENT_BUS.register(this);
+		MinecraftForge.EVENT_BUS.register(new EventHandlerFlowerIndex());
 
 		ForestryBlock.apiculture.registerBlock(new BlockBase(Material.iron), ItemBlockForestry.class, "apiculture");
 		ForestryBlock.apiculture.block().setCreativeTab(Tabs.tabApiculture);
@@ -17,6 +17,7 @@ import java.util.Locale;
 import net.minecraft.block.material.Material;
 import net.minecraft.item.crafting.CraftingManager;
 
+import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.oredict.OreDictionary;
 import net.minecraftforge.oredict.RecipeSorter;
 
@@ -49,6 +50,7 @@ import forestry.core.tiles.MachineDefinition;
 import forestry.core.utils.EntityUtil;
 import forestry.core.utils.Log;
 import forestry.lepidopterology.ButterflySpawner;
+import forestry.lepidopterology.EventHandlerButterflyPopulation;
 import forestry.lepidopterology.GuiHandlerLepidopterology;
 import forestry.lepidopterology.commands.CommandButterfly;
 import forestry.lepidopterology.entities.EntityButterfly;
@@ -69,6 +71,8 @@ public class PluginLepidopterology extends ForestryPlugin {
 	public static ProxyLepidopterology proxy;
 	private static final String CONFIG_CATEGORY = "lepidopterology";
 	public static int spawnConstraint = 100;
+	/** Butterflies a chunk may hold before the spawner skips it, 0 disables the limit. */
+	public static int chunkSpawnConstraint = 0;
 	public static int entityConstraint = 1000;
 	private static boolean allowPollination = true;
 	/**
@@ -138,6 +142,7 @@ public class PluginLepidopterology extends ForestryPlugin {
 		definitionChest.register();
 
 		((ITreeRoot) AlleleManager.alleleRegistry.getSpeciesRoot("rootTrees")).registerLeafTickHandler(new ButterflySpawner());
+		MinecraftForge.EVENT_BUS.register(new EventHandlerButterflyPopulation());
 
 		RecipeSorter.register("forestry:lepidopterologymating", MatingRecipe.class, RecipeSorter.Category.SHAPELESS, "before:minecraft:shapeless");
 	}
@@ -146,6 +151,7 @@ public class PluginLepidopterology extends ForestryPlugin {
 		LocalizedConfiguration config = new LocalizedConfiguration(configFile, "1.0.0");
 
 		spawnConstraint = config.getIntLocalized("butterfly.entities", "spawn.limit", spawnConstraint, 0, 500);
+		chunkSpawnConstraint = config.getIntLocalized("butterfly.entities", "spawn.limit.chunk", chunkSpawnConstraint, 0, 500);
 		entityConstraint = config.getIntLocalized("butterfly.entities", "maximum", entityConstraint, 0, 5000);
 		allowPollination = config.getBooleanLocalized("butterfly.entities", "pollination", allowPollination);
 
@@ -13,6 +13,8 @@ package forestry.storage;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import net.minecraft.block.Block;
 import net.minecraft.item.Item;
@@ -38,6 +40,9 @@ public class BackpackDefinition implements IBackpackDefinition {
 	private final Set<Class> validItemClasses = new HashSet<>();
 	private final Set<Class> validBlockClasses = new HashSet<>();
 
+	// Verdicts of isValidItem by item id and meta, accepted and rejected alike. Cleared whenever valid items are added.
+	private final ConcurrentMap<Long, Boolean> validItemCache = new ConcurrentHashMap<>();
+
 	public BackpackDefinition(String name, int primaryColor) {
 		this(name, primaryColor, 0xffffff);
 	}
@@ -98,11 +103,13 @@ public class BackpackDefinition implements IBackpackDefinition {
 		}
 
 		this.validItemStacks.add(itemStackString);
+		validItemCache.clear();
 	}
 
 	public void clearAllValid() {
 		validItemStacks.clear();
 		validOreIds.clear();
+		validItemCache.clear();
 	}
 
 	@Override
@@ -116,6 +123,7 @@ public class BackpackDefinition implements IBackpackDefinition {
 		//		if (OreDictionary.doesOreNameExist(oreDictName)) { //TODO: add this back when using a forge version that supports it
 		int oreId = OreDictionary.getOreID(oreDictName);
 		validOreIds.add(oreId);
+		validItemCache.clear();
 		//		}
 	}
 
@@ -128,6 +136,7 @@ public class BackpackDefinition implements IBackpackDefinition {
 	public void addValidItemClass(Class itemClass) {
 		if (itemClass != null) {
 			validItemClasses.add(itemClass);
+			validItemCache.clear();
 		}
 	}
 
@@ -140,6 +149,7 @@ public class BackpackDefinition implements IBackpackDefinition {
 	public void addValidBlockClass(Class blockClass) {
 		if (blockClass != null) {
 			validBlockClasses.add(blockClass);
+			validItemCache.clear();
 		}
 	}
 
@@ -176,12 +186,23 @@ public class BackpackDefinition implements IBackpackDefinition {
 			return false;
 		}
 
+		// damage of items without subtypes is durability, keep it from splitting the cache
+		int meta = item.getHasSubtypes() ? itemStack.getItemDamage() : 0;
+		long key = ((long) Item.getIdFromItem(item) << 32) | (meta & 0xFFFFFFFFL);
+		Boolean valid = validItemCache.get(key);
+		if (valid == null) {
+			valid = checkValidItem(itemStack, item, meta);
+			validItemCache.put(key, valid);
+		}
+		return valid;
+	}
+
+	private boolean checkValidItem(ItemStack itemStack, Item item, int meta) {
 		String itemStackStringWild = GameData.getItemRegistry().getNameForObject(item);
 		if (validItemStacks.contains(itemStackStringWild)) {
 			return true;
 		}
 
-		int meta = itemStack.getItemDamage();
 		if (meta != OreDictionary.WILDCARD_VALUE) {
 			String itemStackString = itemStackStringWild + ':' + meta;
 			if (validItemStacks.contains(itemStackString)) {
@@ -192,14 +213,12 @@ public class BackpackDefinition implements IBackpackDefinition {
 		int[] oreIds = OreDictionary.getOreIDs(itemStack);
 		for (int oreId : oreIds) {
 			if (validOreIds.contains(oreId)) {
-				validItemStacks.add(itemStackStringWild);
 				return true;
 			}
 		}
 
 		for (Class itemClass : validItemClasses) {
 			if (itemClass.isInstance(item)) {
-				validItemStacks.add(itemStackStringWild);
 				return true;
 			}
 		}
@@ -208,7 +227,6 @@ public class BackpackDefinition implements IBackpackDefinition {
 		if (block != null) {
 			for (Class blockClass : validBlockClasses) {
 				if (blockClass.isInstance(block)) {
-					validItemStacks.add(itemStackStringWild);
 					return true;
 				}
 			}
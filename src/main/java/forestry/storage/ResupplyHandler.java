@@ -11,11 +11,14 @@
 package forestry.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.inventory.ContainerPlayer;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 
 import net.minecraftforge.common.MinecraftForge;
@@ -24,31 +27,104 @@ import cpw.mods.fml.common.eventhandler.Event;
 
 import forestry.api.storage.BackpackResupplyEvent;
 import forestry.core.IResupplyHandler;
+import forestry.core.config.Config;
 import forestry.core.inventory.ItemInventory;
 import forestry.core.inventory.ItemInventoryBackpack;
 import forestry.storage.items.ItemBackpack;
 
+/**
+ * Tops off the stacks in a player's inventory from their backpacks in resupply mode.
+ *
+ * Backpacks are only opened after the player's inventory has changed, for example because something was used up,
+ * and at most once every {@link Config#backpackResupplyInterval} ticks.
+ */
 public class ResupplyHandler implements IResupplyHandler {
 
-	private static List<ItemStack> backpacks(InventoryPlayer playerInventory) {
-		List<ItemStack> backpacks = new ArrayList<>();
-		for (ItemStack itemStack : playerInventory.mainInventory) {
-			if (itemStack != null && itemStack.stackSize > 0 && (itemStack.getItem() instanceof ItemBackpack)) {
-				backpacks.add(itemStack);
+	private static final int RESUPPLY_DELAY = 40;
+
+	private final Map<EntityPlayer, InventorySnapshot> snapshots = new WeakHashMap<>();
+
+	/**
+	 * What a player's main inventory held after the last resupply.
+	 */
+	private static class InventorySnapshot {
+		private final Item[] items;
+		private final int[] damages;
+		private final int[] stackSizes;
+		private long nextResupplyTick;
+		// a backpack was still waiting out its delay at the last resupply
+		private boolean delayed;
+
+		public InventorySnapshot(int size) {
+			this.items = new Item[size];
+			this.damages = new int[size];
+			this.stackSizes = new int[size];
+		}
+
+		/**
+		 * @return true if the inventory differs from the snapshot, which is updated to match it.
+		 */
+		public boolean update(ItemStack[] inventory) {
+			boolean changed = false;
+			for (int i = 0; i < inventory.length; i++) {
+				ItemStack itemStack = inventory[i];
+				Item item = itemStack == null ? null : itemStack.getItem();
+				int damage = itemStack == null ? 0 : itemStack.getItemDamage();
+				int stackSize = itemStack == null ? 0 : itemStack.stackSize;
+				if (items[i] != item || damages[i] != damage || stackSizes[i] != stackSize) {
+					items[i] = item;
+					damages[i] = damage;
+					stackSizes[i] = stackSize;
+					changed = true;
+				}
 			}
+			return changed;
 		}
-		return backpacks;
 	}
 
 	@Override
 	public void resupply(EntityPlayer player) {
 
 		// Do not attempt resupplying if this backpack is already opened.
+		// Anything done to the inventory meanwhile shows up in the snapshot once it is closed.
 		if (!(player.openContainer instanceof ContainerPlayer)) {
 			return;
 		}
 
-		for (ItemStack backpack : backpacks(player.inventory)) {
+		ItemStack[] inventory = player.inventory.mainInventory;
+		InventorySnapshot snapshot = snapshots.get(player);
+		if (snapshot == null || snapshot.items.length != inventory.length) {
+			snapshot = new InventorySnapshot(inventory.length);
+			snapshots.put(player, snapshot);
+		}
+
+		long worldTime = player.worldObj.getTotalWorldTime();
+		if (worldTime < snapshot.nextResupplyTick) {
+			return;
+		}
+
+		if (!snapshot.update(inventory) && !snapshot.delayed) {
+			return;
+		}
+
+		snapshot.nextResupplyTick = worldTime + Config.backpackResupplyInterval;
+		snapshot.delayed = resupplyFromBackpacks(player);
+
+		// don't count our own changes as a reason to run again
+		snapshot.update(inventory);
+	}
+
+	/**
+	 * @return true if a backpack in resupply mode is still waiting out its delay.
+	 */
+	private static boolean resupplyFromBackpacks(EntityPlayer player) {
+		boolean delayed = false;
+		Map<Item, List<ItemStack>> lowStacks = null;
+
+		for (ItemStack backpack : player.inventory.mainInventory) {
+			if (backpack == null || backpack.stackSize <= 0 || !(backpack.getItem() instanceof ItemBackpack)) {
+				continue;
+			}
 
 			// Only handle those in resupply mode
 			if (ItemBackpack.getMode(backpack) != BackpackMode.RESUPPLY) {
@@ -56,8 +132,17 @@ public class ResupplyHandler implements IResupplyHandler {
 			}
 
 			// Delay before resupplying
-			if (backpack.getItemDamage() < 40) {
-				backpack.setItemDamage(backpack.getItemDamage() + 1);
+			if (backpack.getItemDamage() < RESUPPLY_DELAY) {
+				backpack.setItemDamage(Math.min(RESUPPLY_DELAY, backpack.getItemDamage() + Config.backpackResupplyInterval));
+				delayed = true;
+				continue;
+			}
+
+			// Nothing to top off, no need to load the backpack
+			if (lowStacks == null) {
+				lowStacks = getLowStacks(player.inventory.mainInventory);
+			}
+			if (lowStacks.isEmpty()) {
 				continue;
 			}
 
@@ -79,43 +164,67 @@ public class ResupplyHandler implements IResupplyHandler {
 					continue;
 				}
 
+				List<ItemStack> candidates = lowStacks.get(itemStack.getItem());
+				if (candidates == null) {
+					continue;
+				}
+
 				// Try to add it to the player's inventory and note any change
-				boolean change = topOffPlayerInventory(player, itemStack);
+				boolean change = topOffPlayerInventory(candidates, itemStack);
 
 				if (change) {
 					backpackInventory.setInventorySlotContents(i, itemStack);
 				}
 			}
 		}
+
+		return delayed;
 	}
 
 	/**
-	 * This tops off existing stacks in the player's inventory.
+	 * @return the incomplete stacks in the player's inventory by item.
 	 */
-	private static boolean topOffPlayerInventory(EntityPlayer player, ItemStack itemstack) {
-
-		// Add to player inventory first, if there is an incomplete stack in
-		// there.
-		for (int i = 0; i < player.inventory.getSizeInventory(); i++) {
-			ItemStack inventoryStack = player.inventory.getStackInSlot(i);
-			// We only add to existing stacks.
-			if (inventoryStack == null) {
+	private static Map<Item, List<ItemStack>> getLowStacks(ItemStack[] inventory) {
+		Map<Item, List<ItemStack>> lowStacks = new HashMap<>();
+		for (ItemStack inventoryStack : inventory) {
+			if (inventoryStack == null || inventoryStack.stackSize >= inventoryStack.getMaxStackSize()) {
 				continue;
 			}
 
+			List<ItemStack> stacks = lowStacks.get(inventoryStack.getItem());
+			if (stacks == null) {
+				stacks = new ArrayList<>();
+				lowStacks.put(inventoryStack.getItem(), stacks);
+			}
+			stacks.add(inventoryStack);
+		}
+		return lowStacks;
+	}
+
+	/**
+	 * This tops off existing stacks in the player's inventory, moving as much of the given stack as they can take.
+	 */
+	private static boolean topOffPlayerInventory(List<ItemStack> lowStacks, ItemStack itemstack) {
+		boolean change = false;
+		for (ItemStack inventoryStack : lowStacks) {
+			int space = inventoryStack.getMaxStackSize() - inventoryStack.stackSize;
 			// Already full
-			if (inventoryStack.stackSize >= inventoryStack.getMaxStackSize()) {
+			if (space <= 0) {
 				continue;
 			}
 
 			if (inventoryStack.isItemEqual(itemstack) && ItemStack.areItemStackTagsEqual(inventoryStack, itemstack)) {
-				inventoryStack.stackSize++;
-				itemstack.stackSize--;
-				return true;
+				int moved = Math.min(space, itemstack.stackSize);
+				inventoryStack.stackSize += moved;
+				itemstack.stackSize -= moved;
+				change = true;
+
+				if (itemstack.stackSize <= 0) {
+					break;
+				}
 			}
 		}
-		return false;
-
+		return change;
 	}
 
 }
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+
+import forestry.api.genetics.AlleleManager;
+import forestry.api.genetics.IAllele;
+import forestry.api.genetics.IAlleleRegistry;
+import forestry.api.genetics.IAlleleSpecies;
+import forestry.api.genetics.IMutation;
+import forestry.api.lepidopterology.IButterflyMutation;
+import forestry.core.genetics.SpeciesRoot;
+import forestry.lepidopterology.genetics.ButterflyHelper;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MutationIndexTest {
+
+	private SpeciesRoot root;
+
+	@Before
+	public void setup() {
+		AlleleManager.alleleRegistry = proxy(IAlleleRegistry.class, new InvocationHandler() {
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) {
+				if (method.getName().equals("isBlacklisted")) {
+					return false;
+				}
+				return objectMethod(proxy, method, args);
+			}
+		});
+		root = new ButterflyHelper();
+	}
+
+	@Test
+	public void testLookupBothWays() {
+		IAlleleSpecies species0 = species("index.both.0");
+		IAlleleSpecies species1 = species("index.both.1");
+		IMutation mutation = mutation(species0, species1, species("index.both.result"));
+		root.registerMutation(mutation);
+
+		Assert.assertEquals(Arrays.asList(mutation), root.getCombinations(species0, species1, false));
+		Assert.assertEquals(Arrays.asList(mutation), root.getCombinations(species1, species0, false));
+		Assert.assertTrue("Unrelated parents have no combinations.", root.getCombinations(species0, species0, false).isEmpty());
+	}
+
+	@Test
+	public void testLateRegistration() {
+		IAlleleSpecies species0 = species("index.late.0");
+		IAlleleSpecies species1 = species("index.late.1");
+		IMutation early = mutation(species0, species1, species("index.late.early"));
+		root.registerMutation(early);
+
+		// builds the index
+		Assert.assertEquals(Arrays.asList(early), root.getCombinations(species0, species1, false));
+
+		int idCount = root.getMutationIdCount();
+		IMutation late = mutation(species1, species0, species("index.late.late"));
+		root.registerMutation(late);
+
+		List<IMutation> combinations = root.getCombinations(species0, species1, false);
+		Assert.assertEquals("Late mutations are found, in registration order.", Arrays.asList(early, late), combinations);
+
+		Assert.assertEquals("Late mutations get a new id.", idCount + 1, root.getMutationIdCount());
+		int lateId = root.getMutationId(late);
+		Assert.assertNotEquals(root.getMutationId(early), lateId);
+		Assert.assertSame(late, root.getMutation(lateId));
+	}
+
+	@Test
+	public void testSameKeySharesId() {
+		IAlleleSpecies species0 = species("index.key.0");
+		IAlleleSpecies species1 = species("index.key.1");
+		IAlleleSpecies result = species("index.key.result");
+		IMutation mutation = mutation(species0, species1, result);
+		IMutation duplicate = mutation(species0, species1, result);
+		root.registerMutation(mutation);
+		root.registerMutation(duplicate);
+
+		Assert.assertEquals("Mutations saved under the same key share an id.", root.getMutationId(mutation), root.getMutationId(duplicate));
+		Assert.assertEquals(Arrays.asList(mutation, duplicate), root.getCombinations(species1, species0, false));
+		Assert.assertEquals("Unregistered mutations have no id.", -1, root.getMutationId(mutation(species1, species0, result)));
+	}
+
+	private static IAlleleSpecies species(final String uid) {
+		return proxy(IAlleleSpecies.class, new InvocationHandler() {
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) {
+				if (method.getName().equals("getUID")) {
+					return uid;
+				}
+				return objectMethod(proxy, method, args);
+			}
+		});
+	}
+
+	private static IMutation mutation(final IAlleleSpecies species0, final IAlleleSpecies species1, IAlleleSpecies result) {
+		final IAllele[] template = {result};
+		return proxy(IButterflyMutation.class, new InvocationHandler() {
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) {
+				switch (method.getName()) {
+					case "getAllele0":
+						return species0;
+					case "getAllele1":
+						return species1;
+					case "getTemplate":
+						return template;
+					default:
+						return objectMethod(proxy, method, args);
+				}
+			}
+		});
+	}
+
+	private static Object objectMethod(Object proxy, Method method, Object[] args) {
+		switch (method.getName()) {
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "toString":
+				return "Proxy " + method.getDeclaringClass().getSimpleName();
+			default:
+				throw new UnsupportedOperationException(method.getName());
+		}
+	}
+
+	private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+	}
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+
+import forestry.core.utils.vect.PackedPositions;
+import forestry.core.utils.vect.PositionQueue;
+import forestry.core.utils.vect.PositionSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PackedPositionsTest {
+	private static final int[] HORIZONTAL = {0, 1, -1, 15, -16, 29999999, -29999999, 33554431, -33554432};
+	private static final int[] VERTICAL = {0, 1, -1, 64, 255, -64, 2047, -2048};
+
+	@Test
+	public void testPackRoundTrip() {
+		for (int x : HORIZONTAL) {
+			for (int y : VERTICAL) {
+				for (int z : HORIZONTAL) {
+					long packed = PackedPositions.pack(x, y, z);
+					Assert.assertEquals("x survives packing", x, PackedPositions.unpackX(packed));
+					Assert.assertEquals("y survives packing", y, PackedPositions.unpackY(packed));
+					Assert.assertEquals("z survives packing", z, PackedPositions.unpackZ(packed));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testNeighboursPackDistinctly() {
+		PositionSet set = new PositionSet();
+		for (int x = -3; x <= 3; x++) {
+			for (int y = -3; y <= 3; y++) {
+				for (int z = -3; z <= 3; z++) {
+					Assert.assertTrue("Positions around the origin are distinct.", set.add(PackedPositions.pack(x, y, z)));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testPositionSet() {
+		PositionSet set = new PositionSet();
+		// enough positions to force several rehashes
+		for (int i = -1000; i < 1000; i++) {
+			Assert.assertTrue("New positions are added.", set.add(PackedPositions.pack(i, i & 0xFF, -i)));
+		}
+		for (int i = -1000; i < 1000; i++) {
+			Assert.assertFalse("Positions are only added once.", set.add(PackedPositions.pack(i, i & 0xFF, -i)));
+		}
+
+		set.clear();
+		Assert.assertTrue("Cleared positions can be added again.", set.add(PackedPositions.pack(-1, -1, -1)));
+	}
+
+	@Test
+	public void testPositionQueue() {
+		PositionQueue queue = new PositionQueue();
+		Assert.assertTrue(queue.isEmpty());
+
+		// move the head forward so the queue grows while wrapped around
+		for (int i = 0; i < 40; i++) {
+			queue.add(PackedPositions.pack(i, 0, 0));
+		}
+		for (int i = 0; i < 40; i++) {
+			Assert.assertEquals(i, PackedPositions.unpackX(queue.poll()));
+		}
+
+		for (int i = 0; i < 500; i++) {
+			queue.add(PackedPositions.pack(-i, i & 0xFF, i));
+		}
+		for (int i = 0; i < 500; i++) {
+			long packed = queue.poll();
+			Assert.assertEquals("Positions come out in the order they went in.", -i, PackedPositions.unpackX(packed));
+			Assert.assertEquals(i & 0xFF, PackedPositions.unpackY(packed));
+			Assert.assertEquals(i, PackedPositions.unpackZ(packed));
+		}
+		Assert.assertTrue(queue.isEmpty());
+
+		queue.add(1L);
+		queue.clear();
+		Assert.assertTrue("Cleared queues are empty.", queue.isEmpty());
+	}
+}